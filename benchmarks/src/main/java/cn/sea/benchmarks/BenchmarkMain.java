@@ -0,0 +1,27 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Entry point of benchmarks.jar: JMH with the GC profiler.
+ */
+
+package cn.sea.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkMain {
+
+    /**
+     * Run JMH with the command line options (same as org.openjdk.jmh.Main), always adding the GC
+     * profiler so that allocation rates (gc.alloc.rate.norm, bytes per operation) are reported.
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = new CommandLineOptions(args);
+        if (options.shouldHelp() || options.shouldList() || options.shouldListProfilers() || options.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder().parent(options).addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Throughput of SpinalDecoder.decode.
+ */
+
+package cn.sea.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class DecoderBenchmark {
+
+    @Param({"4"})
+    public int k;
+
+    @Param({"32"})
+    public int v;
+
+    @Param({"6"})
+    public int c;
+
+    @Param({"1", "4"})
+    public int l;
+
+    @Param({"16", "64"})
+    public int B;
+
+    @Param({"1"})
+    public int d;
+
+    @Param({"128"})
+    public int message_length;
+
+    // symbol bits flipped before decoding
+    @Param({"0", "8"})
+    public int errors;
+
+    @Param({"false", "true"})
+    public boolean vectorized;
+
+    private Object decoder;
+    private byte[] symbols;
+
+    @Setup
+    public void setup() throws Throwable {
+        Random random = new Random(1);
+        byte[] message = new byte[this.message_length];
+        random.nextBytes(message);
+        Object encoder = (Object) Spinal.NEW_ENCODER.invokeExact(this.k, this.v, this.c, this.l);
+        this.symbols = (byte[]) Spinal.ENCODE.invokeExact(encoder, message);
+        for (int i = 0; i < this.errors; i++) {
+            this.symbols[random.nextInt(this.symbols.length)] ^= 1 << random.nextInt(8);
+        }
+
+        this.decoder = (Object) Spinal.NEW_DECODER.invokeExact(this.k, this.v, this.c, this.l, this.B, this.d);
+        Spinal.SET_VECTORIZED.invokeExact(this.decoder, this.vectorized);
+    }
+
+    @Benchmark
+    public byte[] decode() throws Throwable {
+        return (byte[]) Spinal.DECODE.invokeExact(this.decoder, this.symbols);
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Throughput of SpinalEncoder.encode.
+ */
+
+package cn.sea.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncoderBenchmark {
+
+    @Param({"4"})
+    public int k;
+
+    @Param({"32"})
+    public int v;
+
+    @Param({"6", "8"})
+    public int c;
+
+    @Param({"1", "4"})
+    public int l;
+
+    @Param({"128", "4096"})
+    public int message_length;
+
+    private Object encoder;
+    private byte[] message;
+
+    @Setup
+    public void setup() throws Throwable {
+        this.encoder = (Object) Spinal.NEW_ENCODER.invokeExact(this.k, this.v, this.c, this.l);
+        this.message = new byte[this.message_length];
+        new Random(1).nextBytes(this.message);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Throwable {
+        return (byte[]) Spinal.ENCODE.invokeExact(this.encoder, this.message);
+    }
+}
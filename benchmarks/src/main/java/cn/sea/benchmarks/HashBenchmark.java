@@ -0,0 +1,56 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Throughput of JenkinsHash.hash32 and of the spine hashes.
+ */
+
+package cn.sea.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashBenchmark {
+
+    @Param({"Lookup3SpineHash", "Murmur3SpineHash", "SplitMixSpineHash"})
+    public String spine_hash_class;
+
+    private Object jenkins_hash;
+    private Object spine_hash;
+    private byte[] input;
+    private int spine, message;
+
+    @Setup
+    public void setup() throws Throwable {
+        this.jenkins_hash = (Object) Spinal.NEW_JENKINS_HASH.invokeExact();
+        this.spine_hash = Spinal.create(this.spine_hash_class);
+        this.input = new byte[]{0x12, 0x34, 0x56, 0x78, 0x0a, 0, 0, 0}; // spine value and message value, as hashed by the first encoder
+        this.spine = 0x12345678;
+        this.message = 0x0a;
+    }
+
+    @Benchmark
+    public int hash32() throws Throwable {
+        return (int) Spinal.HASH32.invokeExact(this.jenkins_hash, this.input);
+    }
+
+    @Benchmark
+    public int spineHash() throws Throwable {
+        return (int) Spinal.SPINE_HASH.invokeExact(this.spine_hash, this.spine, this.message);
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Latency of serving a puncturing sub-pass from an EncoderSession, versus re-hashing the spine chain.
+ */
+
+package cn.sea.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionBenchmark {
+
+    @Param({"4"})
+    public int k;
+
+    @Param({"32"})
+    public int v;
+
+    @Param({"8"})
+    public int c;
+
+    @Param({"256"})
+    public int message_length;
+
+    // sub-passes per pass of StridedPuncturingSchedule
+    @Param({"8"})
+    public int ways;
+
+    private Object encoder;
+    private Object session;
+    private byte[] message;
+    private int[] spine_indices;
+    private int[] symbols;
+    private int pass; // cycles over passes 0 to 15
+
+    @Setup
+    public void setup() throws Throwable {
+        this.encoder = (Object) Spinal.NEW_ENCODER.invokeExact(this.k, this.v, this.c, 1);
+        this.message = new byte[this.message_length];
+        new Random(1).nextBytes(this.message);
+        this.session = (Object) Spinal.SESSION.invokeExact(this.encoder, this.message);
+
+        Object schedule = Spinal.create("StridedPuncturingSchedule", this.ways);
+        this.spine_indices = (int[]) Spinal.GET_SUBPASS.invokeExact(schedule, 0, this.message_length * 8 / this.k);
+        this.symbols = new int[this.spine_indices.length];
+    }
+
+    /**
+     * A sub-pass from the spine chain cached by the session.
+     */
+    @Benchmark
+    public int subpassFromSession() throws Throwable {
+        return (int) Spinal.SESSION_SYMBOLS.invokeExact(this.session, this.pass++ & 15, this.spine_indices, this.symbols, 0);
+    }
+
+    /**
+     * A sub-pass without a session: the spine chain of the message is hashed again for every request.
+     */
+    @Benchmark
+    public int subpassRehashed() throws Throwable {
+        Object session = (Object) Spinal.SESSION.invokeExact(this.encoder, this.message);
+        return (int) Spinal.SESSION_SYMBOLS.invokeExact(session, this.pass++ & 15, this.spine_indices, this.symbols, 0);
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Method handles of the codec classes, which live in the unnamed package.
+ */
+
+package cn.sea.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * JMH refuses benchmarks in the unnamed package and Java can not import from it, so the benchmarks
+ * call the codec through these handles. They are static final, hence constants the JIT inlines
+ * through: the measured code is the same as a direct call.
+ */
+final class Spinal {
+
+    // new SpinalEncoder(k, v, c, l), encoder.encode(message)
+    static final MethodHandle NEW_ENCODER = constructor("SpinalEncoder", int.class, int.class, int.class, int.class);
+    static final MethodHandle ENCODE = method("SpinalEncoder", "encode", byte[].class, byte[].class);
+
+    // encoder.session(message), session.symbols(pass, spine_indices, symbols, offset)
+    static final MethodHandle SESSION = method("SpinalEncoder", "session", "EncoderSession", byte[].class);
+    static final MethodHandle SESSION_SYMBOLS = method("EncoderSession", "symbols", int.class, int.class, int[].class, int[].class, int.class);
+
+    // schedule.getSubpass(subpass, spine_length)
+    static final MethodHandle GET_SUBPASS = method("PuncturingSchedule", "getSubpass", int[].class, int.class, int.class);
+
+    // new SpinalDecoder(k, v, c, l, B, d), decoder.decode(symbols), decoder.setVectorized(vectorized)
+    static final MethodHandle NEW_DECODER = constructor("SpinalDecoder", int.class, int.class, int.class, int.class, int.class, int.class);
+    static final MethodHandle DECODE = method("SpinalDecoder", "decode", byte[].class, byte[].class);
+    static final MethodHandle SET_VECTORIZED = method("SpinalDecoder", "setVectorized", void.class, boolean.class);
+
+    // new JenkinsHash(), jenkins_hash.hash32(input)
+    static final MethodHandle NEW_JENKINS_HASH = constructor("JenkinsHash");
+    static final MethodHandle HASH32 = method("JenkinsHash", "hash32", int.class, byte[].class);
+
+    // spine_hash.hash(spine, message)
+    static final MethodHandle SPINE_HASH = method("SpineHash", "hash", int.class, int.class, int.class);
+
+    // new RNG(seed, c), rng.next()
+    static final MethodHandle NEW_RNG = constructor("RNG", int.class, int.class);
+    static final MethodHandle RNG_NEXT = method("RNG", "next", int.class);
+
+    // symbol_generator.symbol(spine, pass)
+    static final MethodHandle SYMBOL = method("SymbolGenerator", "symbol", int.class, int.class, int.class);
+
+    private Spinal() {
+    }
+
+    /**
+     * Create an object of a codec class with its no-argument or (int ...) constructor.
+     *
+     * @param class_name Name of the class, e.g. Murmur3SpineHash.
+     * @param arguments Arguments of the constructor.
+     *
+     * @return The object.
+     */
+    static Object create(String class_name, Object... arguments) {
+        try {
+            Class<?>[] types = new Class<?>[arguments.length];
+            java.util.Arrays.fill(types, int.class);
+            return codecClass(class_name).getConstructor(types).newInstance(arguments);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Can not create " + class_name, e);
+        }
+    }
+
+    private static MethodHandle constructor(String class_name, Class<?>... parameters) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().findConstructor(codecClass(class_name), MethodType.methodType(void.class, parameters));
+            return handle.asType(handle.type().changeReturnType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static MethodHandle method(String class_name, String name, Class<?> return_type, Class<?>... parameters) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().findVirtual(codecClass(class_name), name, MethodType.methodType(return_type, parameters));
+            return handle.asType(handle.type().changeParameterType(0, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static MethodHandle method(String class_name, String name, String return_class_name, Class<?>... parameters) {
+        try {
+            MethodHandle handle = method(class_name, name, codecClass(return_class_name), parameters);
+            return handle.asType(handle.type().changeReturnType(Object.class));
+        } catch (ClassNotFoundException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static Class<?> codecClass(String class_name) throws ClassNotFoundException {
+        return Class.forName(class_name, true, Spinal.class.getClassLoader());
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Throughput of RNG.next and of the symbol generators, for the l symbols of a spine value.
+ */
+
+package cn.sea.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SymbolBenchmark {
+
+    @Param({"6", "8"})
+    public int c;
+
+    @Param({"1", "4"})
+    public int l;
+
+    @Param({"LegacySymbolGenerator", "CounterSymbolGenerator"})
+    public String symbol_generator_class;
+
+    private Object symbol_generator;
+    private int spine;
+
+    @Setup
+    public void setup() {
+        this.symbol_generator = Spinal.create(this.symbol_generator_class, this.c);
+        this.spine = 0x12345678;
+    }
+
+    /**
+     * The original symbol generation: a new RNG seeded by the spine value, drawn l times.
+     */
+    @Benchmark
+    public int rngNext() throws Throwable {
+        Object rng = (Object) Spinal.NEW_RNG.invokeExact(this.spine++, this.c);
+        int sum = 0;
+        for (int j = 0; j < this.l; j++) {
+            sum += (int) Spinal.RNG_NEXT.invokeExact(rng);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int symbol() throws Throwable {
+        int spine_value = this.spine++;
+        int sum = 0;
+        for (int j = 0; j < this.l; j++) {
+            sum += (int) Spinal.SYMBOL.invokeExact(this.symbol_generator, spine_value, j);
+        }
+        return sum;
+    }
+}
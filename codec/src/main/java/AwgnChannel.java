@@ -0,0 +1,66 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Additive white Gaussian noise channel with soft-decision output.
+ */
+
+import java.util.Random;
+
+public class AwgnChannel implements Channel {
+
+    private static final int MAX_POWER_BITS = 16;
+
+    private SymbolMapper symbol_mapper;
+    private double snr_db;
+    private double sigma;
+
+    /**
+     * AWGN channel. Symbols are mapped to amplitudes, Gaussian noise is added and the received
+     * amplitudes are decoded with soft decisions.
+     *
+     * @param symbol_mapper Mapping of symbols to amplitudes, the one of the decoder (e.g. PamSymbolMapper).
+     * @param c The number of bits for each transmitted symbol.
+     * @param snr_db Signal-to-noise ratio in dB: mean power of the amplitudes over the noise variance.
+     *
+     */
+    public AwgnChannel(SymbolMapper symbol_mapper, int c, double snr_db) {
+        this.symbol_mapper = symbol_mapper;
+        this.snr_db = snr_db;
+        this.sigma = Math.sqrt(getPower(symbol_mapper, c) / Math.pow(10, snr_db / 10));
+    }
+
+    @Override
+    public void transmit(int symbol, int spine_index, int pass, DecoderSession session, Random random) {
+        float sample = (float) (this.symbol_mapper.amplitude(symbol) + this.sigma * random.nextGaussian());
+        session.addSample(spine_index, pass, sample);
+    }
+
+    /**
+     * Mean power of the amplitudes of uniformly distributed symbols, over all symbols for c <= 16
+     * and over 2^16 evenly spaced symbols otherwise.
+     *
+     * @param symbol_mapper Mapping of symbols to amplitudes.
+     * @param c The number of bits for each transmitted symbol.
+     *
+     * @return Mean squared amplitude.
+     */
+    public static double getPower(SymbolMapper symbol_mapper, int c) {
+        int bits = Math.min(c, MAX_POWER_BITS);
+        double power = 0;
+        for (int i = 0; i < (1 << bits); i++) {
+            double amplitude = symbol_mapper.amplitude(i << (c - bits));
+            power += amplitude * amplitude;
+        }
+        return power / (1 << bits);
+    }
+
+    /**
+     * Getters.
+     */
+    public double getSnr_db() {
+        return snr_db;
+    }
+
+    public double getSigma() {
+        return sigma;
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Top-B selection over primitive arrays of candidate costs.
+ */
+
+public class BeamSelector {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Select the B lowest cost candidates in expected linear time.
+     *
+     * Candidates are ordered by (cost, index), so ties go to the lower index and the result is
+     * the same as a stable sort of the candidates by cost.
+     *
+     * @param cost Cost of each candidate.
+     * @param index Array receiving the indices of selected candidates, at least count long.
+     * @param count The number of candidates.
+     * @param B The number of beam.
+     *
+     * @return The number of selected candidates, whose indices are index[0..] in ascending order of cost.
+     */
+    public static int select(double[] cost, int[] index, int count, int B) {
+        for (int i = 0; i < count; i++) {
+            index[i] = i;
+        }
+        int selected = Math.min(count, B);
+        if (selected < count) {
+            quickSelect(cost, index, 0, count - 1, selected);
+        }
+        sort(cost, index, 0, selected - 1);
+        return selected;
+    }
+
+    /**
+     * Partially order index[left..right] so that the n lowest candidates come first.
+     */
+    private static void quickSelect(double[] cost, int[] index, int left, int right, int n) {
+        while (right > left) {
+            int p = partition(cost, index, left, right);
+            if (p == n || p == n - 1) {
+                return;
+            }
+            else if (p < n) {
+                left = p + 1;
+            }
+            else {
+                right = p - 1;
+            }
+        }
+    }
+
+    /**
+     * Sort index[left..right] by (cost, index).
+     */
+    private static void sort(double[] cost, int[] index, int left, int right) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            int p = partition(cost, index, left, right);
+
+            // recurse into the smaller part
+            if (p - left < right - p) {
+                sort(cost, index, left, p - 1);
+                left = p + 1;
+            }
+            else {
+                sort(cost, index, p + 1, right);
+                right = p - 1;
+            }
+        }
+        for (int i = left + 1; i <= right; i++) {
+            int temp = index[i];
+            int j = i - 1;
+            while (j >= left && less(cost, temp, index[j])) {
+                index[j + 1] = index[j];
+                j--;
+            }
+            index[j + 1] = temp;
+        }
+    }
+
+    /**
+     * Lomuto partition around the median of three.
+     *
+     * @return Final position of the pivot.
+     */
+    private static int partition(double[] cost, int[] index, int left, int right) {
+        int mid = (left + right) >>> 1;
+        if (less(cost, index[mid], index[left])) {
+            swap(index, mid, left);
+        }
+        if (less(cost, index[right], index[left])) {
+            swap(index, right, left);
+        }
+        if (less(cost, index[mid], index[right])) {
+            swap(index, mid, right);
+        }
+        int pivot = index[right];
+        int store = left;
+        for (int i = left; i < right; i++) {
+            if (less(cost, index[i], pivot)) {
+                swap(index, i, store);
+                store++;
+            }
+        }
+        swap(index, store, right);
+        return store;
+    }
+
+    private static boolean less(double[] cost, int a, int b) {
+        return cost[a] < cost[b] || (cost[a] == cost[b] && a < b);
+    }
+
+    private static void swap(int[] index, int a, int b) {
+        int temp = index[a];
+        index[a] = index[b];
+        index[b] = temp;
+    }
+}
@@ -0,0 +1,224 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Struct-of-arrays storage of the pruning tree used by SpinalDecoder.
+ */
+
+public class BeamStore {
+
+    private int k, B, d;
+    private int step_count;
+
+    // beam history, indexed by [step][beam slot]
+    private int[][] beam_spine;
+    private double[][] beam_cost;
+    private int[][] beam_parent;
+    private int[][] beam_message;
+    private int[] beam_size;
+
+    // depth-d frontier under the current beam, and the frontier expanded by one more level
+    private int[] frontier_spine;
+    private double[] frontier_cost;
+    private int[] expanded_spine;
+    private double[] expanded_cost;
+    private int frontier_size;
+
+    // path cost of every depth-1 node (T') and scratch for the beam selection
+    private double[] candidate_cost;
+    private int[] candidate_index;
+
+    // scratch for the selection of the lowest cost leaves (list decoding)
+    private int[] leaf_index;
+
+    /**
+     * Struct-of-arrays beam store.
+     *
+     * Every node of the depth-d subtree under beam slot b is addressed by its slot and its message path,
+     * i.e. a node at relative depth r has index (b << (k*r)) | path, so parents and message values
+     * never need to be stored for the frontier.
+     *
+     * @param k The number of bits for each message piece m.
+     * @param B The number of beam.
+     * @param d The depth of sub-tree using in decoding.
+     * @param step_count The number of pruning steps (the beam of step 0 holds the root).
+     *
+     */
+    public BeamStore(int k, int B, int d, int step_count) {
+        this.k = k;
+        this.B = B;
+        this.d = d;
+        this.step_count = step_count;
+
+        this.beam_spine = new int[step_count + 1][B];
+        this.beam_cost = new double[step_count + 1][B];
+        this.beam_parent = new int[step_count + 1][B];
+        this.beam_message = new int[step_count + 1][B];
+        this.beam_size = new int[step_count + 1];
+
+        int capacity = B << (k * (d + 1));
+        this.frontier_spine = new int[capacity];
+        this.frontier_cost = new double[capacity];
+        this.expanded_spine = new int[capacity];
+        this.expanded_cost = new double[capacity];
+        this.frontier_size = 0;
+
+        this.candidate_cost = new double[B << k];
+        this.candidate_index = new int[B << k];
+    }
+
+    /**
+     * Reuse the store for another message, growing the beam history only when it is too short.
+     *
+     * @param d The depth of sub-tree, at most the depth the store was created with.
+     * @param step_count The number of pruning steps.
+     */
+    public void reset(int d, int step_count) {
+        if ((this.B << (this.k * (d + 1))) > this.frontier_spine.length) {
+            throw new IllegalArgumentException("Depth " + d + " exceeds the capacity of the store");
+        }
+        if (step_count + 1 > this.beam_size.length) {
+            this.beam_spine = new int[step_count + 1][this.B];
+            this.beam_cost = new double[step_count + 1][this.B];
+            this.beam_parent = new int[step_count + 1][this.B];
+            this.beam_message = new int[step_count + 1][this.B];
+            this.beam_size = new int[step_count + 1];
+        }
+        this.d = d;
+        this.step_count = step_count;
+        this.frontier_size = 0;
+    }
+
+    /**
+     * Put a node into the beam of a step.
+     *
+     * @param step The pruning step.
+     * @param slot The beam slot.
+     * @param spine_value Spine value of the node.
+     * @param cost Path cost of the node.
+     * @param parent Beam slot of the parent in the previous step (-1 for the root).
+     * @param message_value Message value leading from the parent to the node.
+     */
+    public void setBeamNode(int step, int slot, int spine_value, double cost, int parent, int message_value) {
+        this.beam_spine[step][slot] = spine_value;
+        this.beam_cost[step][slot] = cost;
+        this.beam_parent[step][slot] = parent;
+        this.beam_message[step][slot] = message_value;
+    }
+
+    /**
+     * Load the beam of a step as the frontier, ready to be expanded.
+     *
+     * @param step The pruning step.
+     */
+    public void loadBeamAsFrontier(int step) {
+        System.arraycopy(this.beam_spine[step], 0, this.frontier_spine, 0, this.beam_size[step]);
+        System.arraycopy(this.beam_cost[step], 0, this.frontier_cost, 0, this.beam_size[step]);
+        this.frontier_size = this.beam_size[step];
+    }
+
+    /**
+     * Make the expanded level the new frontier.
+     */
+    public void swapFrontier() {
+        int[] temp_spine = this.frontier_spine;
+        double[] temp_cost = this.frontier_cost;
+        this.frontier_spine = this.expanded_spine;
+        this.frontier_cost = this.expanded_cost;
+        this.expanded_spine = temp_spine;
+        this.expanded_cost = temp_cost;
+        this.frontier_size <<= this.k;
+    }
+
+    /**
+     * Copy the leaves under an expanded node of depth 1 into a frontier slot.
+     *
+     * @param expanded_index Index of the depth-1 node whose subtree is kept.
+     * @param slot The beam slot of the new frontier.
+     */
+    public void keepSubtree(int expanded_index, int slot) {
+        int block = 1 << (this.k * this.d);
+        System.arraycopy(this.expanded_spine, expanded_index * block, this.frontier_spine, slot * block, block);
+        System.arraycopy(this.expanded_cost, expanded_index * block, this.frontier_cost, slot * block, block);
+    }
+
+    /**
+     * Getters and setters.
+     */
+    public int getK() {
+        return k;
+    }
+
+    public int getB() {
+        return B;
+    }
+
+    public int getD() {
+        return d;
+    }
+
+    public int getStep_count() {
+        return step_count;
+    }
+
+    public int getBeam_size(int step) {
+        return beam_size[step];
+    }
+
+    public void setBeam_size(int step, int size) {
+        this.beam_size[step] = size;
+    }
+
+    public int getBeam_spine(int step, int slot) {
+        return beam_spine[step][slot];
+    }
+
+    public double getBeam_cost(int step, int slot) {
+        return beam_cost[step][slot];
+    }
+
+    public int getBeam_parent(int step, int slot) {
+        return beam_parent[step][slot];
+    }
+
+    public int getBeam_message(int step, int slot) {
+        return beam_message[step][slot];
+    }
+
+    public int[] getFrontier_spine() {
+        return frontier_spine;
+    }
+
+    public double[] getFrontier_cost() {
+        return frontier_cost;
+    }
+
+    public int[] getExpanded_spine() {
+        return expanded_spine;
+    }
+
+    public double[] getExpanded_cost() {
+        return expanded_cost;
+    }
+
+    public double[] getCandidate_cost() {
+        return candidate_cost;
+    }
+
+    public int[] getCandidate_index() {
+        return candidate_index;
+    }
+
+    public int[] getLeaf_index() {
+        if (leaf_index == null) {
+            leaf_index = new int[frontier_spine.length];
+        }
+        return leaf_index;
+    }
+
+    public int getFrontier_size() {
+        return frontier_size;
+    }
+
+    public void setFrontier_size(int frontier_size) {
+        this.frontier_size = frontier_size;
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Binary symmetric channel with hard-decision output.
+ */
+
+import java.util.Random;
+
+public class BinarySymmetricChannel implements Channel {
+
+    private int c;
+    private double p;
+
+    /**
+     * Binary symmetric channel. Every bit of a symbol is flipped independently with probability p.
+     *
+     * @param c The number of bits for each transmitted symbol.
+     * @param p Crossover probability.
+     *
+     */
+    public BinarySymmetricChannel(int c, double p) {
+        this.c = c;
+        this.p = p;
+    }
+
+    /**
+     * Binary symmetric channel of hard-decision BPSK over AWGN, p = Q(sqrt(2 * SNR)).
+     *
+     * @param c The number of bits for each transmitted symbol.
+     * @param snr_db Signal-to-noise ratio in dB per transmitted bit.
+     *
+     * @return The channel.
+     */
+    public static BinarySymmetricChannel fromSnr(int c, double snr_db) {
+        double snr = Math.pow(10, snr_db / 10);
+        return new BinarySymmetricChannel(c, 0.5 * erfc(Math.sqrt(snr)));
+    }
+
+    @Override
+    public void transmit(int symbol, int spine_index, int pass, DecoderSession session, Random random) {
+        for (int i = 0; i < this.c; i++) {
+            if (random.nextDouble() < this.p) {
+                symbol ^= 1 << i;
+            }
+        }
+        session.addSymbol(spine_index, pass, symbol);
+    }
+
+    /**
+     * Complementary error function (Chebyshev fit, relative error below 1.2e-7).
+     */
+    static double erfc(double x) {
+        double z = Math.abs(x);
+        double t = 1 / (1 + 0.5 * z);
+        double r = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? r : 2 - r;
+    }
+
+    /**
+     * Getters.
+     */
+    public int getC() {
+        return c;
+    }
+
+    public double getP() {
+        return p;
+    }
+}
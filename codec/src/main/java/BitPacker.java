@@ -0,0 +1,134 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Word-at-a-time packing of fixed-width bit fields into bytes.
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class BitPacker {
+
+    private static final VarHandle INT_VIEW = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private int width;
+
+    /**
+     * Bit packer. Fields are written most significant bit first: field i fills bits
+     * [i*width, (i+1)*width) of the byte stream, and the last byte is padded with zeros.
+     *
+     * Fields are shifted into a 64-bit accumulator, which is written 32 bits at a time.
+     *
+     * @param width The number of bits of each field (1 to 32).
+     *
+     */
+    public BitPacker(int width) {
+        if (width < 1 || width > 32) {
+            throw new IllegalArgumentException("Width must be in [1, 32]: " + width);
+        }
+        this.width = width;
+    }
+
+    /**
+     * Pack fields into an array of bytes. Bits beyond length bytes are dropped.
+     *
+     * @param src Array of fields (only the low width bits are used).
+     * @param src_offset Index of the first field.
+     * @param count The number of fields.
+     * @param dst Array receiving the bytes.
+     * @param offset Index of the first byte in dst.
+     * @param length The number of bytes available in dst.
+     *
+     * @return The number of bytes written.
+     */
+    public int pack(int[] src, int src_offset, int count, byte[] dst, int offset, int length) {
+        long mask = (1L << this.width) - 1;
+        int end = offset + length;
+        int position = offset;
+        long accumulator = 0;
+        int bits = 0; // pending bits, in the low bits of the accumulator
+        for (int i = 0; i < count && position < end; i++) {
+            accumulator = (accumulator << this.width) | (src[src_offset + i] & mask);
+            bits += this.width;
+            if (bits >= 32) {
+                bits -= 32;
+                int word = (int) (accumulator >>> bits);
+                if (position + 4 <= end) {
+                    INT_VIEW.set(dst, position, word);
+                    position += 4;
+                }
+                else {
+                    for (int j = 24; j >= 0 && position < end; j -= 8) {
+                        dst[position++] = (byte) (word >>> j);
+                    }
+                }
+            }
+        }
+        for (; bits > 0 && position < end; bits -= 8) {
+            dst[position++] = (byte) (bits >= 8 ? accumulator >>> (bits - 8) : accumulator << (8 - bits));
+        }
+        return position - offset;
+    }
+
+    /**
+     * Pack fields into a byte buffer, from its position to its limit. The position is not changed.
+     *
+     * @param src Array of fields (only the low width bits are used).
+     * @param src_offset Index of the first field.
+     * @param count The number of fields.
+     * @param dst Byte buffer receiving the bytes.
+     *
+     * @return The number of bytes written.
+     */
+    public int pack(int[] src, int src_offset, int count, ByteBuffer dst) {
+        boolean swap = dst.order() != ByteOrder.BIG_ENDIAN;
+        long mask = (1L << this.width) - 1;
+        int end = dst.limit();
+        int position = dst.position();
+        long accumulator = 0;
+        int bits = 0; // pending bits, in the low bits of the accumulator
+        for (int i = 0; i < count && position < end; i++) {
+            accumulator = (accumulator << this.width) | (src[src_offset + i] & mask);
+            bits += this.width;
+            if (bits >= 32) {
+                bits -= 32;
+                int word = (int) (accumulator >>> bits);
+                if (position + 4 <= end) {
+                    dst.putInt(position, swap ? Integer.reverseBytes(word) : word);
+                    position += 4;
+                }
+                else {
+                    for (int j = 24; j >= 0 && position < end; j -= 8) {
+                        dst.put(position++, (byte) (word >>> j));
+                    }
+                }
+            }
+        }
+        for (; bits > 0 && position < end; bits -= 8) {
+            dst.put(position++, (byte) (bits >= 8 ? accumulator >>> (bits - 8) : accumulator << (8 - bits)));
+        }
+        return position - dst.position();
+    }
+
+    /**
+     * Pack fields into a new array of bytes.
+     *
+     * @param src Array of fields.
+     * @param length The number of bytes of the result.
+     *
+     * @return Array of bytes.
+     */
+    public byte[] pack(int[] src, int length) {
+        byte[] dst = new byte[length];
+        this.pack(src, 0, src.length, dst, 0, length);
+        return dst;
+    }
+
+    /**
+     * Getters.
+     */
+    public int getWidth() {
+        return width;
+    }
+}
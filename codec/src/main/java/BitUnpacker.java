@@ -0,0 +1,122 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Word-at-a-time extraction of fixed-width bit fields from bytes.
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class BitUnpacker {
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private int width;
+
+    /**
+     * Bit unpacker. Fields are read most significant bit first, as written by BitPacker:
+     * field i holds bits [i*width, (i+1)*width) of the byte stream.
+     *
+     * Each field is cut from the 64-bit big-endian word starting at its first byte, which holds
+     * the whole field because (bit offset in byte) + width <= 7 + 32.
+     *
+     * @param width The number of bits of each field (1 to 32).
+     *
+     */
+    public BitUnpacker(int width) {
+        if (width < 1 || width > 32) {
+            throw new IllegalArgumentException("Width must be in [1, 32]: " + width);
+        }
+        this.width = width;
+    }
+
+    /**
+     * Unpack fields from an array of bytes.
+     *
+     * @param src Array of bytes.
+     * @param offset Index of the first byte.
+     * @param length The number of bytes available.
+     * @param dst Array receiving the fields (unsigned, in the low bits).
+     * @param dst_offset Index of the first field in dst.
+     * @param count The number of fields.
+     */
+    public void unpack(byte[] src, int offset, int length, int[] dst, int dst_offset, int count) {
+        this.checkLength(length, count);
+        int end = offset + length;
+        long bit = (long) offset * 8;
+        for (int i = 0; i < count; i++) {
+            int index = (int) (bit >>> 3);
+            long word = index + 8 <= end ? (long) LONG_VIEW.get(src, index) : tailWord(src, index, end);
+            dst[dst_offset + i] = (int) ((word << (bit & 7)) >>> (64 - this.width));
+            bit += this.width;
+        }
+    }
+
+    /**
+     * Unpack fields from a byte buffer, from its position to its limit. The position is not changed.
+     *
+     * @param src Byte buffer.
+     * @param dst Array receiving the fields (unsigned, in the low bits).
+     * @param dst_offset Index of the first field in dst.
+     * @param count The number of fields.
+     */
+    public void unpack(ByteBuffer src, int[] dst, int dst_offset, int count) {
+        this.checkLength(src.remaining(), count);
+        boolean swap = src.order() != ByteOrder.BIG_ENDIAN;
+        int end = src.limit();
+        long bit = (long) src.position() * 8;
+        for (int i = 0; i < count; i++) {
+            int index = (int) (bit >>> 3);
+            long word;
+            if (index + 8 <= end) {
+                word = swap ? Long.reverseBytes(src.getLong(index)) : src.getLong(index);
+            }
+            else {
+                word = 0;
+                for (int j = 0; j < 8; j++) {
+                    word = (word << 8) | (index + j < end ? src.get(index + j) & 0xFF : 0);
+                }
+            }
+            dst[dst_offset + i] = (int) ((word << (bit & 7)) >>> (64 - this.width));
+            bit += this.width;
+        }
+    }
+
+    /**
+     * Unpack all whole fields of an array of bytes.
+     *
+     * @param src Array of bytes.
+     *
+     * @return Array of src.length * 8 / width fields.
+     */
+    public int[] unpack(byte[] src) {
+        int[] dst = new int[(int) ((long) src.length * 8 / this.width)];
+        this.unpack(src, 0, src.length, dst, 0, dst.length);
+        return dst;
+    }
+
+    private void checkLength(int length, int count) {
+        if ((long) count * this.width > (long) length * 8) {
+            throw new IllegalArgumentException(count + " fields of " + this.width + " bits exceed " + length + " bytes");
+        }
+    }
+
+    /**
+     * Big-endian word of the last bytes, zero padded.
+     */
+    private static long tailWord(byte[] src, int index, int end) {
+        long word = 0;
+        for (int j = 0; j < 8; j++) {
+            word = (word << 8) | (index + j < end ? src[index + j] & 0xFF : 0);
+        }
+        return word;
+    }
+
+    /**
+     * Getters.
+     */
+    public int getWidth() {
+        return width;
+    }
+}
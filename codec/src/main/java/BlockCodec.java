@@ -0,0 +1,372 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Framing of long payloads into independent code blocks.
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+public class BlockCodec {
+
+    public static final int HEADER_LENGTH = 12;
+    private static final long MAX_WINDOW_LENGTH = 1 << 30; // bytes of a file mapped at once
+    private static final int TASK_BLOCKS = 64; // blocks of a file coded by one task
+
+    private SpinalEncoder encoder;
+    private SpinalDecoder decoder;
+    private ExecutorService pool;
+    private int block_length;
+    private int list_size;
+    private MessageVerifier verifier;
+
+    /**
+     * Block codec. The payload is cut into blocks of block_length bytes, each encoded as its own
+     * spine chain, so decoding cost and latency per block do not grow with the payload and blocks
+     * are encoded and decoded concurrently. Each block is framed as
+     *     [block index (4 bytes)][payload length (4 bytes)][s_0 (4 bytes)][symbols of l passes]
+     * with big-endian integers. When the encoder appends a CRC, decoded blocks are checked with it.
+     *
+     * @param encoder Encoder of blocks.
+     * @param decoder Decoder of blocks, with the same parameters as the encoder.
+     * @param block_length The number of payload bytes of a block (rounded up to a multiple of k).
+     * @param pool Workers encoding and decoding blocks.
+     *
+     */
+    public BlockCodec(SpinalEncoder encoder, SpinalDecoder decoder, int block_length, ExecutorService pool) {
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.block_length = (block_length + encoder.getK() - 1) / encoder.getK() * encoder.getK();
+        this.pool = pool;
+        this.list_size = 1;
+        this.verifier = new CrcVerifier();
+    }
+
+    /**
+     * Encode a payload into a sequence of block frames.
+     *
+     * @param payload Payload bytes.
+     *
+     * @return Block frames in order of block index.
+     *
+     * @throws InterruptedException If interrupted while waiting for workers.
+     * @throws ExecutionException If encoding a block failed.
+     */
+    public byte[] encode(byte[] payload) throws InterruptedException, ExecutionException {
+        int block_count = (payload.length + this.block_length - 1) / this.block_length;
+        ArrayList<Future<byte[]>> frames = new ArrayList<Future<byte[]>>(block_count);
+        for (int i = 0; i < block_count; i++) {
+            final int block_index = i;
+            frames.add(this.pool.submit(() -> this.encodeBlock(payload, block_index)));
+        }
+
+        int total_length = 0;
+        for (int i = 0; i < block_count; i++) {
+            total_length += this.getFrame_length(this.getPayload_length(payload.length, i));
+        }
+        ByteBuffer output = ByteBuffer.allocate(total_length);
+        for (Future<byte[]> frame : frames) {
+            output.put(frame.get());
+        }
+        return output.array();
+    }
+
+    /**
+     * Decode a sequence of block frames.
+     *
+     * Frames carry no total length, so losing the last blocks of a payload whose length is a multiple of
+     * block_length can not be seen; any other missing, duplicated or truncated frame is an error rather
+     * than a block of zeros in the payload.
+     *
+     * @param frames Block frames, in any order.
+     *
+     * @return Payload bytes.
+     *
+     * @throws IOException If a frame is truncated or corrupt, or a block before the last one is missing.
+     * @throws InterruptedException If interrupted while waiting for workers.
+     * @throws ExecutionException If decoding a block failed, e.g. its CRC check.
+     */
+    public byte[] decode(byte[] frames) throws IOException, InterruptedException, ExecutionException {
+        ArrayList<Future<byte[]>> blocks = new ArrayList<Future<byte[]>>();
+        ArrayList<Integer> block_indices = new ArrayList<Integer>();
+        ArrayList<Integer> block_lengths = new ArrayList<Integer>();
+        BitSet received = new BitSet();
+        int last_index = -1, last_length = 0;
+        ByteBuffer input = ByteBuffer.wrap(frames);
+        while (input.hasRemaining()) {
+            if (input.remaining() < HEADER_LENGTH) {
+                throw new IOException("Truncated frame header at byte " + input.position());
+            }
+            int block_index = input.getInt();
+            int length = input.getInt();
+            int s_0 = input.getInt();
+            // no input of this size holds more than frames.length / HEADER_LENGTH frames
+            if (block_index < 0 || block_index > frames.length / HEADER_LENGTH
+                    || length <= 0 || length > this.block_length || received.get(block_index)) {
+                throw new IOException("Corrupt frame header of block " + block_index);
+            }
+            byte[] symbols = new byte[this.getFrame_length(length) - HEADER_LENGTH];
+            if (input.remaining() < symbols.length) {
+                throw new IOException("Truncated frame of block " + block_index);
+            }
+            input.get(symbols);
+            blocks.add(this.pool.submit(() -> this.decodeBlock(symbols, s_0, block_index)));
+            block_indices.add(block_index);
+            block_lengths.add(length);
+            received.set(block_index);
+            if (block_index > last_index) {
+                last_index = block_index;
+                last_length = length;
+            }
+        }
+
+        if (last_index < 0) {
+            return new byte[0];
+        }
+
+        // every block but the last is full and present
+        int missing = received.nextClearBit(0);
+        if (missing < last_index) {
+            throw new IOException("Missing block " + missing);
+        }
+        long payload_length = (long) last_index * this.block_length + last_length;
+
+        byte[] payload = new byte[(int) payload_length];
+        for (int i = 0; i < blocks.size(); i++) {
+            if (block_indices.get(i) != last_index && block_lengths.get(i) != this.block_length) {
+                throw new IOException("Short block " + block_indices.get(i));
+            }
+        }
+        // decoded blocks carry the padding (and CRC) of the encoder, only the payload length is copied
+        for (int i = 0; i < blocks.size(); i++) {
+            int offset = block_indices.get(i) * this.block_length;
+            System.arraycopy(blocks.get(i).get(), 0, payload, offset, block_lengths.get(i));
+        }
+        return payload;
+    }
+
+    /**
+     * Encode a file into a file of block frames, in order of block index, through memory-mapped windows
+     * of the files. Windows hold whole blocks, so files larger than the heap or 2 GB are coded window
+     * by window, and the blocks of a window are coded concurrently.
+     *
+     * @param in Payload file, opened for reading.
+     * @param out Frame file, opened for reading and writing (it is grown to the length of the frames).
+     *
+     * @return The number of payload bytes encoded.
+     *
+     * @throws IOException If mapping a file fails.
+     * @throws InterruptedException If interrupted while waiting for workers.
+     * @throws ExecutionException If encoding a block failed.
+     */
+    public long encode(FileChannel in, FileChannel out) throws IOException, InterruptedException, ExecutionException {
+        long payload_length = in.size();
+        long block_count = (payload_length + this.block_length - 1) / this.block_length;
+        int frame_length = this.getFrame_length(this.block_length);
+        long window_blocks = Math.max(1, MAX_WINDOW_LENGTH / Math.max(frame_length, this.block_length));
+        for (long first = 0; first < block_count; first += window_blocks) {
+            int count = (int) Math.min(window_blocks, block_count - first);
+            long in_offset = first * this.block_length;
+            long in_length = Math.min((long) count * this.block_length, payload_length - in_offset);
+            int last_length = (int) (in_length - (long) (count - 1) * this.block_length);
+            MappedByteBuffer input = in.map(FileChannel.MapMode.READ_ONLY, in_offset, in_length);
+            MappedByteBuffer output = out.map(FileChannel.MapMode.READ_WRITE, first * frame_length,
+                    (long) (count - 1) * frame_length + this.getFrame_length(last_length));
+
+            // code ranges of blocks concurrently, each block read and written in place in the windows
+            final long first_block = first;
+            ArrayList<Future<?>> tasks = new ArrayList<Future<?>>();
+            for (int from = 0; from < count; from += TASK_BLOCKS) {
+                final int start = from, end = Math.min(count, from + TASK_BLOCKS);
+                tasks.add(this.pool.submit(() -> {
+                    for (int j = start; j < end; j++) {
+                        int length = j == count - 1 ? last_length : this.block_length;
+                        byte[] message = new byte[length];
+                        input.get(j * this.block_length, message);
+                        int block_index = (int) (first_block + j);
+                        int s_0 = this.getS_0(block_index);
+                        int offset = j * frame_length;
+                        output.putInt(offset, block_index);
+                        output.putInt(offset + 4, length);
+                        output.putInt(offset + 8, s_0);
+                        output.put(offset + HEADER_LENGTH, this.encoder.encode(message, s_0));
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+            output.force();
+        }
+        return payload_length;
+    }
+
+    /**
+     * Decode a file of block frames written by encode(FileChannel, FileChannel) into a payload file,
+     * through memory-mapped windows of the files.
+     *
+     * @param in Frame file, opened for reading.
+     * @param out Payload file, opened for reading and writing (it is grown to the length of the payload).
+     *
+     * @return The number of payload bytes decoded.
+     *
+     * @throws IOException If mapping a file fails, or a frame is not where the block length puts it.
+     * @throws InterruptedException If interrupted while waiting for workers.
+     * @throws ExecutionException If decoding a block failed, e.g. its CRC check.
+     */
+    public long decode(FileChannel in, FileChannel out) throws IOException, InterruptedException, ExecutionException {
+        long frames_length = in.size();
+        int frame_length = this.getFrame_length(this.block_length);
+        long block_count = (frames_length + frame_length - 1) / frame_length;
+        if (block_count == 0) {
+            return 0;
+        }
+
+        // every frame but the last holds a full block
+        ByteBuffer last_header = ByteBuffer.allocate(HEADER_LENGTH);
+        in.read(last_header, (block_count - 1) * frame_length);
+        int last_length = last_header.flip().getInt(4);
+        if (last_length <= 0 || last_length > this.block_length
+                || (block_count - 1) * frame_length + this.getFrame_length(last_length) != frames_length) {
+            throw new IOException("Frame file does not match the block length");
+        }
+        long payload_length = (block_count - 1) * this.block_length + last_length;
+
+        long window_blocks = Math.max(1, MAX_WINDOW_LENGTH / Math.max(frame_length, this.block_length));
+        for (long first = 0; first < block_count; first += window_blocks) {
+            int count = (int) Math.min(window_blocks, block_count - first);
+            long out_offset = first * this.block_length;
+            long out_length = Math.min((long) count * this.block_length, payload_length - out_offset);
+            int window_last_length = (int) (out_length - (long) (count - 1) * this.block_length);
+            MappedByteBuffer input = in.map(FileChannel.MapMode.READ_ONLY, first * frame_length,
+                    Math.min((long) count * frame_length, frames_length - first * frame_length));
+            MappedByteBuffer output = out.map(FileChannel.MapMode.READ_WRITE, out_offset, out_length);
+
+            final long first_block = first;
+            ArrayList<Future<?>> tasks = new ArrayList<Future<?>>();
+            for (int from = 0; from < count; from += TASK_BLOCKS) {
+                final int start = from, end = Math.min(count, from + TASK_BLOCKS);
+                tasks.add(this.pool.submit(() -> {
+                    for (int j = start; j < end; j++) {
+                        int offset = j * frame_length;
+                        int length = input.getInt(offset + 4);
+                        int expected_length = j == count - 1 ? window_last_length : this.block_length;
+                        if (input.getInt(offset) != first_block + j || length != expected_length) {
+                            throw new IOException("Corrupt frame header of block " + (first_block + j));
+                        }
+                        byte[] symbols = new byte[this.getFrame_length(length) - HEADER_LENGTH];
+                        input.get(offset + HEADER_LENGTH, symbols);
+                        byte[] message = this.decodeBlock(symbols, input.getInt(offset + 8), (int) (first_block + j));
+                        output.put(j * this.block_length, message, 0, length);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+            output.force();
+        }
+        return payload_length;
+    }
+
+    /**
+     * Encode one block into a frame.
+     *
+     * @param payload Payload bytes.
+     * @param block_index Index of the block.
+     *
+     * @return Block frame.
+     */
+    public byte[] encodeBlock(byte[] payload, int block_index) {
+        int offset = block_index * this.block_length;
+        int length = this.getPayload_length(payload.length, block_index);
+        byte[] message = Arrays.copyOfRange(payload, offset, offset + length);
+
+        int s_0 = this.getS_0(block_index);
+        byte[] symbols = this.encoder.encode(message, s_0);
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + symbols.length);
+        frame.putInt(block_index);
+        frame.putInt(length);
+        frame.putInt(s_0);
+        frame.put(symbols);
+        return frame.array();
+    }
+
+    /**
+     * Decode the symbols of one block, checked by the CRC when the encoder appends one.
+     *
+     * @param symbols Symbols of the block.
+     * @param s_0 Spine value 0 of the block.
+     * @param block_index Index of the block.
+     *
+     * @return Decoded block (with padding and CRC).
+     *
+     * @throws IOException If no path of the list passes the CRC.
+     */
+    private byte[] decodeBlock(byte[] symbols, int s_0, int block_index) throws IOException {
+        if (!this.encoder.isAppend_crc()) {
+            return this.decoder.decode(symbols, s_0);
+        }
+        DecodeResult result = this.decoder.decode(symbols, s_0, this.verifier, this.list_size);
+        if (!result.isSuccess()) {
+            throw new IOException("CRC check failed for block " + block_index);
+        }
+        return result.getMessage();
+    }
+
+    /**
+     * @return Spine value 0 of a block, distinct for neighbouring blocks so equal blocks give different symbols.
+     */
+    public int getS_0(int block_index) {
+        return this.encoder.getSpine_hash().hash(block_index, 0);
+    }
+
+    /**
+     * @return The number of payload bytes in a block.
+     */
+    private int getPayload_length(int total_length, int block_index) {
+        return Math.min(this.block_length, total_length - block_index * this.block_length);
+    }
+
+    /**
+     * @return The number of bytes of a frame carrying a payload of a given length.
+     */
+    public int getFrame_length(int payload_length) {
+        int message_length = this.encoder.getEncoded_length(payload_length);
+        return HEADER_LENGTH + message_length * this.encoder.getL() * this.encoder.getC() / this.encoder.getK();
+    }
+
+    /**
+     * Getters and setters.
+     */
+    public int getBlock_length() {
+        return block_length;
+    }
+
+    public SpinalEncoder getEncoder() {
+        return encoder;
+    }
+
+    public SpinalDecoder getDecoder() {
+        return decoder;
+    }
+
+    public int getList_size() {
+        return list_size;
+    }
+
+    /**
+     * @param list_size The number of lowest cost paths checked by the CRC for each block (L), when the encoder appends one.
+     */
+    public void setList_size(int list_size) {
+        this.list_size = list_size;
+    }
+}
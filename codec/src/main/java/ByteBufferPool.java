@@ -0,0 +1,57 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Pool of direct byte buffers of one size.
+ */
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class ByteBufferPool {
+
+    private int buffer_size;
+    private ConcurrentLinkedQueue<ByteBuffer> buffers;
+
+    /**
+     * Buffer pool. Direct buffers are costly to allocate and are read and written by channels without
+     * a copy into a temporary buffer, so packets are built in buffers taken from the pool and given back.
+     *
+     * @param buffer_size The capacity of each buffer.
+     * @param count The number of buffers allocated up front (more are allocated when the pool is empty).
+     *
+     */
+    public ByteBufferPool(int buffer_size, int count) {
+        this.buffer_size = buffer_size;
+        this.buffers = new ConcurrentLinkedQueue<ByteBuffer>();
+        for (int i = 0; i < count; i++) {
+            this.buffers.add(ByteBuffer.allocateDirect(buffer_size));
+        }
+    }
+
+    /**
+     * @return A cleared buffer, owned by the caller until release.
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = this.buffers.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(this.buffer_size);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Give a buffer back to the pool.
+     *
+     * @param buffer Buffer from acquire.
+     */
+    public void release(ByteBuffer buffer) {
+        this.buffers.add(buffer);
+    }
+
+    /**
+     * Getters.
+     */
+    public int getBuffer_size() {
+        return buffer_size;
+    }
+}
@@ -0,0 +1,20 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Noisy channel model used by ChannelSimulator.
+ */
+
+import java.util.Random;
+
+public interface Channel {
+
+    /**
+     * Send a symbol over the channel and give what is received to a decoding session.
+     *
+     * @param symbol The transmitted symbol (c bits).
+     * @param spine_index Index of the spine value of the symbol.
+     * @param pass The pass of the symbol.
+     * @param session Receiver of the channel output.
+     * @param random Source of noise of the trial.
+     */
+    void transmit(int symbol, int spine_index, int pass, DecoderSession session, Random random);
+}
@@ -0,0 +1,274 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Monte Carlo simulation of spinal codes over noisy channels.
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.DoubleFunction;
+
+public class ChannelSimulator {
+
+    private SpinalEncoder encoder;
+    private SpinalDecoder decoder;
+    private ExecutorService pool;
+    private PuncturingSchedule schedule;
+    private int message_length;
+    private int trials;
+    private int max_passes;
+    private long seed;
+
+    /**
+     * Channel simulator. Each trial sends a random message over the channel as a rateless stream,
+     * attempts to decode after every sub-pass and stops once the decoded message is right
+     * (genie-aided stop) or after max_passes passes. Trials run concurrently on the pool, and each
+     * one draws its message and noise from its own seed, so results do not depend on scheduling.
+     *
+     * @param encoder Encoder.
+     * @param decoder Decoder, with the same parameters as the encoder.
+     * @param pool Workers running trials.
+     *
+     */
+    public ChannelSimulator(SpinalEncoder encoder, SpinalDecoder decoder, ExecutorService pool) {
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.pool = pool;
+        this.schedule = new StridedPuncturingSchedule();
+        this.message_length = 32;
+        this.trials = 100;
+        this.max_passes = 16;
+        this.seed = 1;
+    }
+
+    /**
+     * Simulate trials over a channel.
+     *
+     * @param channel Channel model.
+     * @param snr_db Signal-to-noise ratio of the channel, reported with the result.
+     * @param point Index of the point in a sweep, which selects the seeds of its trials.
+     *
+     * @return Statistics of the trials.
+     *
+     * @throws InterruptedException If interrupted while waiting for workers.
+     * @throws ExecutionException If a trial failed.
+     */
+    public SimulationResult simulate(Channel channel, double snr_db, int point) throws InterruptedException, ExecutionException {
+        long start_time = System.nanoTime();
+        ArrayList<Future<long[]>> results = new ArrayList<Future<long[]>>(this.trials);
+        for (int i = 0; i < this.trials; i++) {
+            final long trial_seed = mix(this.seed, point, i);
+            results.add(this.pool.submit(() -> this.runTrial(channel, new Random(trial_seed))));
+        }
+
+        long symbol_count = 0, bit_errors = 0, decode_nanos = 0;
+        int frame_errors = 0;
+        for (Future<long[]> result : results) {
+            long[] trial = result.get();
+            symbol_count += trial[0];
+            bit_errors += trial[1];
+            frame_errors += (int) trial[2];
+            decode_nanos += trial[3];
+        }
+        return new SimulationResult(snr_db, this.trials, this.message_length * 8, symbol_count, bit_errors,
+                frame_errors, decode_nanos, System.nanoTime() - start_time);
+    }
+
+    /**
+     * Sweep signal-to-noise ratios and write one CSV row per point.
+     *
+     * @param snr_db Signal-to-noise ratios in dB.
+     * @param channels Channel model of a signal-to-noise ratio, e.g. snr -> new AwgnChannel(mapper, c, snr).
+     * @param out Output of the CSV, starting with SimulationResult.CSV_HEADER.
+     *
+     * @return Results in order of snr_db.
+     *
+     * @throws IOException If writing fails.
+     * @throws InterruptedException If interrupted while waiting for workers.
+     * @throws ExecutionException If a trial failed.
+     */
+    public SimulationResult[] sweep(double[] snr_db, DoubleFunction<Channel> channels, Appendable out)
+            throws IOException, InterruptedException, ExecutionException {
+        SimulationResult[] results = new SimulationResult[snr_db.length];
+        out.append(SimulationResult.CSV_HEADER).append('\n');
+        for (int i = 0; i < snr_db.length; i++) {
+            results[i] = this.simulate(channels.apply(snr_db[i]), snr_db[i], i);
+            out.append(results[i].toCsv()).append('\n');
+        }
+        return results;
+    }
+
+    /**
+     * Send one message over the channel.
+     *
+     * @return {symbols sent, bit errors, frame error (0 or 1), decoding time in ns}.
+     */
+    private long[] runTrial(Channel channel, Random random) {
+        byte[] message = new byte[this.message_length];
+        random.nextBytes(message);
+
+        int k = this.encoder.getK();
+        SymbolStream stream = this.encoder.symbolStream(message, this.schedule);
+        DecoderSession session = new DecoderSession(this.decoder, (this.message_length + k - 1) / k * k);
+        long max_symbols = (long) this.max_passes * stream.getSpine_length();
+
+        long decode_nanos = 0;
+        byte[] decoded = new byte[this.message_length];
+        while (stream.hasNext()) {
+            int symbol = stream.next();
+            channel.transmit(symbol, stream.getSpine_index(), stream.getPass(), session, random);
+            if (!stream.isSubpassEnd()) {
+                continue;
+            }
+
+            long start_time = System.nanoTime();
+            decoded = session.decode();
+            decode_nanos += System.nanoTime() - start_time;
+            if (Arrays.equals(decoded, 0, this.message_length, message, 0, this.message_length)) {
+                return new long[]{stream.getSymbol_count(), 0, 0, decode_nanos};
+            }
+            if (stream.getSymbol_count() >= max_symbols) {
+                break;
+            }
+        }
+
+        long bit_errors = 0;
+        for (int i = 0; i < this.message_length; i++) {
+            bit_errors += Integer.bitCount((decoded[i] ^ message[i]) & 0xFF);
+        }
+        return new long[]{stream.getSymbol_count(), bit_errors, 1, decode_nanos};
+    }
+
+    /**
+     * Seed of a trial (SplitMix64 finalizer of the simulation seed, the point and the trial).
+     */
+    private static long mix(long seed, int point, int trial) {
+        long z = seed + 0x9E3779B97F4A7C15L * (((long) point << 32 | (trial & 0xFFFFFFFFL)) + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Command line simulation, writing CSV to standard output.
+     *
+     * Arguments are key=value pairs (defaults in brackets): channel=awgn|bsc [awgn], snr=from:step:to [0:2:20],
+     * k [4], v [32], c [6], B [16], d [1], margin (adaptive beam cost margin) [Infinity], min_B [1],
+     * length (message bytes) [32], trials [100], max_passes [16], threads [available processors], seed [1].
+     */
+    public static void main(String[] args) throws Exception {
+        HashMap<String, String> options = new HashMap<String, String>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split < 0) {
+                throw new IllegalArgumentException("Expected key=value: " + arg);
+            }
+            options.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+        int k = Integer.parseInt(options.getOrDefault("k", "4"));
+        int v = Integer.parseInt(options.getOrDefault("v", "32"));
+        int c = Integer.parseInt(options.getOrDefault("c", "6"));
+        int B = Integer.parseInt(options.getOrDefault("B", "16"));
+        int d = Integer.parseInt(options.getOrDefault("d", "1"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        String[] range = options.getOrDefault("snr", "0:2:20").split(":");
+        double from = Double.parseDouble(range[0]), step = Double.parseDouble(range[1]), to = Double.parseDouble(range[2]);
+        double[] snr_db = new double[(int) Math.floor((to - from) / step + 1e-9) + 1];
+        for (int i = 0; i < snr_db.length; i++) {
+            snr_db[i] = from + i * step;
+        }
+
+        // l only scales path costs, the number of passes sent is given by max_passes
+        SpinalEncoder encoder = new SpinalEncoder(k, v, c, 1);
+        SpinalDecoder decoder = new SpinalDecoder(k, v, c, 1, B, d);
+        decoder.setCost_margin(Double.parseDouble(options.getOrDefault("margin", "Infinity")));
+        decoder.setMin_B(Integer.parseInt(options.getOrDefault("min_B", "1")));
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            ChannelSimulator simulator = new ChannelSimulator(encoder, decoder, pool);
+            simulator.setMessage_length(Integer.parseInt(options.getOrDefault("length", "32")));
+            simulator.setTrials(Integer.parseInt(options.getOrDefault("trials", "100")));
+            simulator.setMax_passes(Integer.parseInt(options.getOrDefault("max_passes", "16")));
+            simulator.setSeed(Long.parseLong(options.getOrDefault("seed", "1")));
+
+            String channel = options.getOrDefault("channel", "awgn");
+            DoubleFunction<Channel> channels;
+            if (channel.equals("awgn")) {
+                channels = snr -> new AwgnChannel(decoder.getSymbol_mapper(), c, snr);
+            }
+            else if (channel.equals("bsc")) {
+                channels = snr -> BinarySymmetricChannel.fromSnr(c, snr);
+            }
+            else {
+                throw new IllegalArgumentException("Unknown channel: " + channel);
+            }
+            simulator.sweep(snr_db, channels, System.out);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Getters and setters.
+     */
+    public PuncturingSchedule getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * @param schedule Puncturing schedule of the transmitted symbols, StridedPuncturingSchedule by default.
+     */
+    public void setSchedule(PuncturingSchedule schedule) {
+        this.schedule = schedule;
+    }
+
+    public int getMessage_length() {
+        return message_length;
+    }
+
+    /**
+     * @param message_length The number of bytes of each random message, 32 by default.
+     */
+    public void setMessage_length(int message_length) {
+        this.message_length = message_length;
+    }
+
+    public int getTrials() {
+        return trials;
+    }
+
+    /**
+     * @param trials The number of messages sent per point, 100 by default.
+     */
+    public void setTrials(int trials) {
+        this.trials = trials;
+    }
+
+    public int getMax_passes() {
+        return max_passes;
+    }
+
+    /**
+     * @param max_passes The number of passes after which a message counts as a frame error, 16 by default.
+     */
+    public void setMax_passes(int max_passes) {
+        this.max_passes = max_passes;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param seed Seed of the simulation; the same seed gives the same trials.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Expansion of tree nodes shared by the decoders: spine hash, symbol generation and path cost.
+ */
+
+class ChildExpander implements ChildKernel {
+
+    private int k, v_mask, l;
+    private SpineHash spine_hash;
+    private SymbolGenerator symbol_generator;
+    private SymbolMapper symbol_mapper;
+    private ChildKernel vector_kernel; // null when scalar
+
+    /**
+     * Child expander. Hard symbols are scored by squared error, soft samples by squared Euclidean distance
+     * to the amplitudes of the symbol mapper, both divided by l. The expander is immutable: decoders build
+     * a new one when a component changes, so searches running on other threads keep a consistent one.
+     *
+     * @param k The number of bits for each message piece m.
+     * @param v_mask Mask of v bits for spine values.
+     * @param c The number of bits for each transmitted symbol.
+     * @param l The number of passes.
+     * @param spine_hash Spine hash of the encoder.
+     * @param symbol_generator Symbol generator of the encoder.
+     * @param symbol_mapper Mapping of symbols to amplitudes, for soft samples.
+     * @param vectorized Whether to expand hard symbols with the SIMD kernel when it is available.
+     *
+     */
+    ChildExpander(int k, int v_mask, int c, int l, SpineHash spine_hash, SymbolGenerator symbol_generator,
+                  SymbolMapper symbol_mapper, boolean vectorized) {
+        this.k = k;
+        this.v_mask = v_mask;
+        this.l = l;
+        this.spine_hash = spine_hash;
+        this.symbol_generator = symbol_generator;
+        this.symbol_mapper = symbol_mapper;
+        if (vectorized) {
+            this.vector_kernel = createVectorKernel(k, v_mask, c, l, spine_hash, symbol_generator);
+        }
+    }
+
+    /**
+     * Create the SIMD kernel (VectorChildKernel) by reflection, so that the decoders still load without
+     * the incubator module.
+     *
+     * @return The kernel, or null when the module is missing or the configuration is not supported.
+     */
+    private static ChildKernel createVectorKernel(int k, int v_mask, int c, int l, SpineHash spine_hash,
+                                                  SymbolGenerator symbol_generator) {
+        if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return null;
+        }
+        try {
+            return (ChildKernel) Class.forName("VectorChildKernel")
+                    .getMethod("create", int.class, int.class, int.class, int.class, SpineHash.class, SymbolGenerator.class)
+                    .invoke(null, k, v_mask, c, l, spine_hash, symbol_generator);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The spine value of a child, masked to v bits.
+     */
+    int hash(int parent_spine, int message_value) {
+        return this.spine_hash.hash(parent_spine, message_value) & this.v_mask;
+    }
+
+    /**
+     * Build all children of a node, with the SIMD kernel for hard symbols when there is one.
+     *
+     * @param parent_spine Spine value of the parent node.
+     * @param parent_cost Path cost of the parent node.
+     * @param buffer Received symbols.
+     * @param parent_depth The depth of parent in the whole tree.
+     * @param child_spine Array receiving spine values of children.
+     * @param child_cost Array receiving path costs of children.
+     * @param offset Index of the first child in the arrays.
+     */
+    @Override
+    public void buildChild(int parent_spine, double parent_cost, SymbolBuffer buffer, int parent_depth,
+                           int[] child_spine, double[] child_cost, int offset) {
+        if (this.vector_kernel != null && !buffer.isSoft()) {
+            this.vector_kernel.buildChild(parent_spine, parent_cost, buffer, parent_depth, child_spine, child_cost, offset);
+            return;
+        }
+        for (int i = 0; i < (1 << this.k); i++) {
+            int temp_spine_value = this.hash(parent_spine, i);
+            child_spine[offset + i] = temp_spine_value;
+            child_cost[offset + i] = parent_cost + this.computeLoss(temp_spine_value, buffer, parent_depth);
+        }
+    }
+
+    /**
+     * Compute the loss between the received symbols and the symbols generated by a spine value.
+     *
+     * @param spine_value Spine value of the node.
+     * @param buffer Received symbols.
+     * @param parent_depth The depth of parent in the whole tree.
+     *
+     * @return Squared error (or squared Euclidean distance of soft samples) over the received passes, divided by l.
+     */
+    double computeLoss(int spine_value, SymbolBuffer buffer, int parent_depth) {
+        int count = buffer.getCount(parent_depth);
+        int[] passes = buffer.getPasses(parent_depth);
+        if (buffer.isSoft()) {
+            float[] samples = buffer.getSamples(parent_depth);
+            float temp_loss = 0;
+            for (int j = 0; j < count; j++) {
+                float diff = samples[j] - this.symbol_mapper.amplitude(this.symbol_generator.symbol(spine_value, passes[j]));
+                temp_loss += diff * diff;
+            }
+            return (double) temp_loss / this.l;
+        }
+        int[] values = buffer.getValues(parent_depth);
+        double temp_loss = 0;
+        for (int j = 0; j < count; j++) {
+            int rng_generated_symbol = this.symbol_generator.symbol(spine_value, passes[j]);
+            temp_loss += Math.pow(values[j] - rng_generated_symbol, 2);
+        }
+        return temp_loss / this.l;
+    }
+
+    /**
+     * @return Whether hard symbols are expanded by the SIMD kernel.
+     */
+    boolean isVector_kernel() {
+        return this.vector_kernel != null;
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Batch computation of the children of a node in the pruning tree.
+ */
+
+public interface ChildKernel {
+
+    /**
+     * Build all 2^k children of a node: spine values and path costs.
+     *
+     * @param parent_spine Spine value of the parent node.
+     * @param parent_cost Path cost of the parent node.
+     * @param buffer Received symbols (hard symbols only).
+     * @param parent_depth The depth of parent in the whole pruning tree.
+     * @param child_spine Array receiving spine values of children.
+     * @param child_cost Array receiving path costs of children.
+     * @param offset Index of the first child in the arrays.
+     */
+    void buildChild(int parent_spine, double parent_cost, SymbolBuffer buffer, int parent_depth,
+                    int[] child_spine, double[] child_cost, int offset);
+}
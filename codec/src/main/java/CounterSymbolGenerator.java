@@ -0,0 +1,39 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Fast counter-based symbol generator.
+ */
+
+public class CounterSymbolGenerator implements SymbolGenerator {
+
+    private int c;
+
+    /**
+     * Counter-based symbol generator, x_i,j = top c bits of SplitMix64(s_i, j).
+     * Not compatible with symbols encoded by RNG.
+     *
+     * @param c The length of symbol of each pass.
+     *
+     */
+    public CounterSymbolGenerator(int c) {
+        this.c = c;
+    }
+
+    @Override
+    public int symbol(int spine, int pass) {
+        long z = (((long) spine) << 32 | (pass & 0xFFFFFFFFL)) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        if (this.c >= 32) {
+            return (int) (z >>> 32);
+        }
+        return this.c == 0 ? 0 : (int) (z >>> (64 - this.c));
+    }
+
+    /**
+     * Getters.
+     */
+    public int getC() {
+        return c;
+    }
+}
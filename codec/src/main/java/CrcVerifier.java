@@ -0,0 +1,57 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * CRC-32 appended to messages for error detection.
+ */
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+public class CrcVerifier implements MessageVerifier {
+
+    public static final int CRC_LENGTH = 4;
+
+    /**
+     * Append a CRC-32 to a message. The message is first padded with '\0' so that the result
+     * length is a multiple of k, and the CRC covers the message and the padding:
+     *     [message][padding][CRC-32 (4 bytes, big-endian)]
+     *
+     * @param message_byte Message bytes.
+     * @param k The number of bits for each message piece m.
+     *
+     * @return Message with padding and CRC.
+     */
+    public static byte[] appendCrc(byte[] message_byte, int k) {
+        int length = getLength(message_byte.length, k);
+        byte[] checked = Arrays.copyOf(message_byte, length);
+        int crc = crc32(checked, length - CRC_LENGTH);
+        checked[length - 4] = (byte) (crc >>> 24);
+        checked[length - 3] = (byte) (crc >>> 16);
+        checked[length - 2] = (byte) (crc >>> 8);
+        checked[length - 1] = (byte) crc;
+        return checked;
+    }
+
+    /**
+     * @return The number of bytes of a message of a given length after appendCrc.
+     */
+    public static int getLength(int message_length, int k) {
+        return (message_length + CRC_LENGTH + k - 1) / k * k;
+    }
+
+    @Override
+    public boolean verify(byte[] message) {
+        if (message.length < CRC_LENGTH) {
+            return false;
+        }
+        int length = message.length - CRC_LENGTH;
+        int crc = ((message[length] & 0xff) << 24) | ((message[length + 1] & 0xff) << 16)
+                | ((message[length + 2] & 0xff) << 8) | (message[length + 3] & 0xff);
+        return crc == crc32(message, length);
+    }
+
+    private static int crc32(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * JDK Flight Recorder event of a decoding attempt.
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("spinal.Decode")
+@Label("Spinal Decode")
+@Category("Spinal Codes")
+@Description("Pruning tree search and traceback of one message")
+public class DecodeEvent extends jdk.jfr.Event {
+
+    @Label("Spine Length")
+    int spine_length;
+
+    @Label("Beam Width")
+    @Description("0 for the stack decoder, which keeps no beam")
+    int B;
+
+    @Label("Depth")
+    @Description("Depth of the sub-trees expanded per step, 0 for the stack decoder")
+    int d;
+
+    @Label("First Step")
+    @Description("Step the search was resumed from, 0 for a search from the root")
+    int first_step;
+
+    @Label("Expanded Nodes")
+    long expanded_nodes;
+
+    @Label("Hash Calls")
+    long hash_calls;
+
+    @Label("Mean Beam Size")
+    double mean_beam_size;
+
+    @Label("Best Cost")
+    double best_cost;
+
+    @Label("Mean Cost Gap")
+    @Description("Mean cost gap between the best and the B-th candidate of a step")
+    double mean_cost_gap;
+
+    @Label("Expansion Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long expand_nanos;
+
+    @Label("Selection Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long select_nanos;
+
+    @Label("Traceback Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long traceback_nanos;
+}
@@ -0,0 +1,242 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Counters and timings of one decoding attempt.
+ */
+
+import jdk.jfr.EventType;
+
+public class DecodeMetrics {
+
+    private static final EventType DECODE_EVENT = EventType.getEventType(DecodeEvent.class);
+
+    private int spine_length;
+    private int B, d;
+    private int first_step;
+    private int step_count;
+    private long expanded_nodes;
+    private long hash_calls;
+    private long beam_size_sum;
+    private double best_cost;
+    private double min_cost_gap;
+    private double cost_gap_sum;
+    private long expand_nanos;
+    private long select_nanos;
+    private long traceback_nanos;
+    private long start_time;
+    private long mark_time; // end of the last measured stage
+    DecodeEvent event; // null when the JFR event is disabled
+
+    /**
+     * Decode metrics, filled by SpinalDecoder or StackDecoder while a listener is set or the JFR event is enabled.
+     * A step of StackDecoder is one node taken from the stack and expanded; it has no beam, so B = 0 and d = 0.
+     *
+     * @param spine_length The number of spine values of the message.
+     * @param B The number of beam (0 for StackDecoder).
+     * @param d The depth of sub-tree using in decoding (0 for StackDecoder).
+     * @param first_step The step the search was resumed from (0 for a search from the root).
+     *
+     */
+    public DecodeMetrics(int spine_length, int B, int d, int first_step) {
+        this.spine_length = spine_length;
+        this.B = B;
+        this.d = d;
+        this.first_step = first_step;
+        this.min_cost_gap = Double.NaN;
+        this.start_time = System.nanoTime();
+        this.mark_time = this.start_time;
+    }
+
+    /**
+     * Start the metrics of a decoding attempt when a listener is set or the JFR decode event is enabled.
+     *
+     * @param listener Listener of the decoder, or null.
+     * @param spine_length The number of spine values of the message.
+     * @param B The number of beam (0 for StackDecoder).
+     * @param d The depth of sub-tree using in decoding (0 for StackDecoder).
+     * @param first_step The step the search starts from.
+     *
+     * @return New metrics, or null when nobody observes the decoder.
+     */
+    static DecodeMetrics start(DecoderListener listener, int spine_length, int B, int d, int first_step) {
+        if (listener == null && !DECODE_EVENT.isEnabled()) {
+            return null;
+        }
+        DecodeMetrics metrics = new DecodeMetrics(spine_length, B, d, first_step);
+        if (DECODE_EVENT.isEnabled()) {
+            metrics.event = new DecodeEvent();
+            metrics.event.begin();
+        }
+        return metrics;
+    }
+
+    /**
+     * End the attempt after the traceback: commit the JFR event and notify the listener.
+     *
+     * @param listener Listener of the decoder, or null.
+     */
+    void complete(DecoderListener listener) {
+        this.finish();
+        DecodeEvent event = this.event;
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.spine_length = this.spine_length;
+                event.B = this.B;
+                event.d = this.d;
+                event.first_step = this.first_step;
+                event.expanded_nodes = this.expanded_nodes;
+                event.hash_calls = this.hash_calls;
+                event.mean_beam_size = this.getMean_beam_size();
+                event.best_cost = this.best_cost;
+                event.mean_cost_gap = this.getMean_cost_gap();
+                event.expand_nanos = this.expand_nanos;
+                event.select_nanos = this.select_nanos;
+                event.traceback_nanos = this.traceback_nanos;
+                event.commit();
+            }
+        }
+        if (listener != null) {
+            listener.decodeCompleted(this);
+        }
+    }
+
+    /**
+     * Count the expansion of frontier nodes.
+     *
+     * @param nodes The number of children built.
+     */
+    void addExpansion(long nodes) {
+        this.expanded_nodes += nodes;
+        this.hash_calls += nodes;
+        long time = System.nanoTime();
+        this.expand_nanos += time - this.mark_time;
+        this.mark_time = time;
+    }
+
+    /**
+     * Count the selection of a pruning step.
+     *
+     * @param beam_size The number of candidates kept.
+     * @param best_cost Path cost of the best candidate.
+     * @param worst_cost Path cost of the B-th candidate (or of the last one when fewer).
+     */
+    void addSelection(int beam_size, double best_cost, double worst_cost) {
+        this.hash_calls += beam_size;
+        this.addStep(beam_size, best_cost, worst_cost - best_cost);
+    }
+
+    /**
+     * Count a node taken from the stack of StackDecoder (or completed greedily), as a step of one path.
+     *
+     * @param cost Path cost of the node.
+     * @param metric_gap Metric of the next node of the stack minus the metric of this one (0 when none).
+     */
+    void addStackStep(double cost, double metric_gap) {
+        this.addStep(1, cost, metric_gap);
+    }
+
+    /**
+     * Count a step and the time of its selection.
+     */
+    private void addStep(int beam_size, double best_cost, double cost_gap) {
+        this.step_count++;
+        this.beam_size_sum += beam_size;
+        this.best_cost = best_cost;
+        this.min_cost_gap = Double.isNaN(this.min_cost_gap) ? cost_gap : Math.min(this.min_cost_gap, cost_gap);
+        this.cost_gap_sum += cost_gap;
+        long time = System.nanoTime();
+        this.select_nanos += time - this.mark_time;
+        this.mark_time = time;
+    }
+
+    /**
+     * Restart the clock of the current stage, e.g. after calling a listener.
+     */
+    void mark() {
+        this.mark_time = System.nanoTime();
+    }
+
+    /**
+     * End the attempt: the time since the search is the traceback.
+     */
+    void finish() {
+        long time = System.nanoTime();
+        this.traceback_nanos += time - this.mark_time;
+        this.mark_time = time;
+    }
+
+    /**
+     * @return Mean cost gap between the best and the B-th candidate over the steps (NaN without steps).
+     */
+    public double getMean_cost_gap() {
+        return this.step_count == 0 ? Double.NaN : this.cost_gap_sum / this.step_count;
+    }
+
+    /**
+     * @return Mean number of candidates kept per step, below B with an adaptive beam (NaN without steps).
+     */
+    public double getMean_beam_size() {
+        return this.step_count == 0 ? Double.NaN : (double) this.beam_size_sum / this.step_count;
+    }
+
+    /**
+     * @return Time from the start of the search to the end of the traceback.
+     */
+    public long getTotal_nanos() {
+        return this.mark_time - this.start_time;
+    }
+
+    /**
+     * Getters.
+     */
+    public int getSpine_length() {
+        return spine_length;
+    }
+
+    /**
+     * @return The number of beam, 0 for a search of StackDecoder.
+     */
+    public int getB() {
+        return B;
+    }
+
+    public int getD() {
+        return d;
+    }
+
+    public int getFirst_step() {
+        return first_step;
+    }
+
+    public int getStep_count() {
+        return step_count;
+    }
+
+    public long getExpanded_nodes() {
+        return expanded_nodes;
+    }
+
+    public long getHash_calls() {
+        return hash_calls;
+    }
+
+    public double getBest_cost() {
+        return best_cost;
+    }
+
+    public double getMin_cost_gap() {
+        return min_cost_gap;
+    }
+
+    public long getExpand_nanos() {
+        return expand_nanos;
+    }
+
+    public long getSelect_nanos() {
+        return select_nanos;
+    }
+
+    public long getTraceback_nanos() {
+        return traceback_nanos;
+    }
+}
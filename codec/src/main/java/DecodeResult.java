@@ -0,0 +1,47 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Result of a checked decoding.
+ */
+
+public class DecodeResult {
+
+    private byte[] message;
+    private boolean success;
+    private double path_cost;
+    private int rank;
+
+    /**
+     * Decoding result.
+     *
+     * @param message Decoded message (including padding and CRC).
+     * @param success Whether the message passed the check.
+     * @param path_cost Path cost of the decoded message.
+     * @param rank Position of the path in the list, in order of cost (-1 if no path passed the check).
+     *
+     */
+    public DecodeResult(byte[] message, boolean success, double path_cost, int rank) {
+        this.message = message;
+        this.success = success;
+        this.path_cost = path_cost;
+        this.rank = rank;
+    }
+
+    /**
+     * Getters.
+     */
+    public byte[] getMessage() {
+        return message;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public double getPath_cost() {
+        return path_cost;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Decoding engine of spinal codes, e.g. the beam search of SpinalDecoder or the stack search of StackDecoder.
+ */
+
+public interface Decoder {
+
+    /**
+     * Decode symbols.
+     *
+     * @param symbols Array of encoded bytes (l passes of c-bit symbols).
+     *
+     * @return Decoded message.
+     */
+    byte[] decode(byte[] symbols);
+
+    /**
+     * Decode symbols of a spine chain starting from a given spine value.
+     *
+     * @param symbols Array of encoded bytes (l passes of c-bit symbols).
+     * @param s_0 Spine value 0, the one used by the encoder.
+     *
+     * @return Decoded message.
+     */
+    byte[] decode(byte[] symbols, int s_0);
+
+    /**
+     * @return The number of bits for each message piece m.
+     */
+    int getK();
+
+    /**
+     * @return The number of bits for each spine value s.
+     */
+    int getV();
+
+    /**
+     * @return The number of bits for each transmitted symbol.
+     */
+    int getC();
+
+    /**
+     * @return The number of passes.
+     */
+    int getL();
+}
@@ -0,0 +1,27 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Observer of the work done by SpinalDecoder and StackDecoder.
+ */
+
+public interface DecoderListener {
+
+    /**
+     * Called after every pruning step, from the decoding thread. For StackDecoder a step is a node taken
+     * from the stack: step is its depth, best_cost its path cost and cost_gap the metric of the next node
+     * of the stack minus its own.
+     *
+     * @param step The pruning step.
+     * @param best_cost Path cost of the best candidate kept in the beam.
+     * @param cost_gap Path cost of the worst candidate kept (the B-th) minus the best one.
+     */
+    default void stepCompleted(int step, double best_cost, double cost_gap) {
+    }
+
+    /**
+     * Called after every decoding attempt, from the decoding thread. Listeners of a decoder shared
+     * by several threads are called concurrently.
+     *
+     * @param metrics Counters and timings of the attempt.
+     */
+    void decodeCompleted(DecodeMetrics metrics);
+}
@@ -0,0 +1,156 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Incremental decoding of one rateless message.
+ */
+
+public class DecoderSession {
+
+    private SpinalDecoder decoder;
+    private SymbolBuffer buffer;
+    private BeamStore store;
+    private MessageVerifier verifier;
+    private int list_size;
+    private int message_length;
+
+    private int dirty_from; // lowest spine index whose symbols were not used by the last search
+    private boolean searched;
+    private boolean success;
+    private byte[] decoded_message;
+
+    /**
+     * Decoding session, receiving symbols of one message as they arrive.
+     *
+     * Symbols are kept per spine value, and every decoding attempt resumes the pruning tree search
+     * from the last beam not affected by the new symbols instead of starting from the root.
+     *
+     * @param decoder Decoder giving the code parameters and the decoding engine.
+     * @param message_length The number of bytes of the message (after padding by the encoder).
+     *
+     */
+    public DecoderSession(SpinalDecoder decoder, int message_length) {
+        this.decoder = decoder;
+        this.message_length = message_length;
+        int spine_length = message_length * 8 / decoder.getK();
+        this.buffer = new SymbolBuffer(spine_length, decoder.getL());
+        this.store = decoder.createStore(spine_length);
+        this.dirty_from = 0;
+        this.list_size = 1;
+    }
+
+    /**
+     * Add a received symbol.
+     *
+     * @param spine_index Index of the spine value.
+     * @param pass The pass of the symbol.
+     * @param value The received symbol (c bits).
+     */
+    public void addSymbol(int spine_index, int pass, int value) {
+        this.buffer.add(spine_index, pass, value);
+        this.dirty_from = Math.min(this.dirty_from, spine_index);
+    }
+
+    /**
+     * Add a received soft sample, for soft-decision decoding.
+     *
+     * @param spine_index Index of the spine value.
+     * @param pass The pass of the sample.
+     * @param sample The received amplitude.
+     */
+    public void addSample(int spine_index, int pass, float sample) {
+        this.buffer.addSample(spine_index, pass, sample);
+        this.dirty_from = Math.min(this.dirty_from, spine_index);
+    }
+
+    /**
+     * Add a full pass as produced by the encoder for one pass.
+     *
+     * @param pass The pass of the symbols.
+     * @param symbols Encoded bytes of one pass.
+     */
+    public void addPass(int pass, byte[] symbols) {
+        this.buffer.addPass(pass, this.decoder.divideSymbols2int(symbols), 0);
+        this.dirty_from = 0;
+    }
+
+    /**
+     * @return Whether symbols were added since the last decoding attempt.
+     */
+    public boolean hasNewSymbols() {
+        return !this.searched || this.dirty_from < this.buffer.getSpine_length();
+    }
+
+    /**
+     * Attempt to decode with the symbols received so far.
+     *
+     * @return Decoded message (the previous result when no symbol was added).
+     */
+    public byte[] decode() {
+        if (!this.hasNewSymbols()) {
+            return this.decoded_message;
+        }
+        int first_step = 0;
+        if (this.searched) {
+            first_step = Math.max(0, Math.min(this.dirty_from - this.store.getD(), this.store.getStep_count()));
+        }
+        DecodeMetrics metrics = this.decoder.search(this.buffer, this.store, first_step, 0);
+        DecodeResult result = this.decoder.selectPath(this.store, this.message_length, this.verifier, this.list_size);
+        this.decoder.finishMetrics(metrics);
+        this.decoded_message = result.getMessage();
+        this.success = result.isSuccess();
+        this.searched = true;
+        this.dirty_from = this.buffer.getSpine_length();
+        return this.decoded_message;
+    }
+
+    /**
+     * Drop all symbols, to decode a new message of the same length.
+     */
+    public void reset() {
+        this.buffer.clear();
+        this.searched = false;
+        this.success = false;
+        this.decoded_message = null;
+        this.dirty_from = 0;
+    }
+
+    /**
+     * Getters and setters.
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public byte[] getDecoded_message() {
+        return decoded_message;
+    }
+
+    public SymbolBuffer getBuffer() {
+        return buffer;
+    }
+
+    public int getMessage_length() {
+        return message_length;
+    }
+
+    public MessageVerifier getVerifier() {
+        return verifier;
+    }
+
+    /**
+     * @param verifier Check of decoded messages (e.g. CrcVerifier), or null to accept every decoding attempt.
+     */
+    public void setVerifier(MessageVerifier verifier) {
+        this.verifier = verifier;
+    }
+
+    public int getList_size() {
+        return list_size;
+    }
+
+    /**
+     * @param list_size The number of lowest cost paths checked by the verifier at each attempt (L).
+     */
+    public void setList_size(int list_size) {
+        this.list_size = list_size;
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Reusable buffers of SpinalDecoder, owned by one thread.
+ */
+
+public class DecoderWorkspace {
+
+    private int k, B, d, l;
+    private int[] symbols_int;
+    private int[] message_values;
+    private byte[] message;
+    private SymbolBuffer buffer;
+    private BeamStore store;
+
+    /**
+     * Decoder workspace. Holds the symbol buffer, the beam store and the scratch arrays of a decode,
+     * so that decoding frames up to the sizing length allocates nothing once the workspace is warm.
+     * Longer frames grow the arrays. A workspace is not thread-safe: each worker thread owns one.
+     *
+     * @param k The number of bits for each message piece m.
+     * @param B The number of beam.
+     * @param d The depth of sub-tree using in decoding.
+     * @param l The number of passes.
+     * @param max_message_length The number of bytes of the longest message expected.
+     *
+     */
+    public DecoderWorkspace(int k, int B, int d, int l, int max_message_length) {
+        this.k = k;
+        this.B = B;
+        this.d = d;
+        this.l = l;
+
+        int spine_length = max_message_length * 8 / k;
+        int depth = Math.min(d, spine_length);
+        this.symbols_int = new int[spine_length * l];
+        this.message_values = new int[spine_length];
+        this.message = new byte[max_message_length];
+        this.buffer = new SymbolBuffer(spine_length, l);
+        this.store = new BeamStore(k, B, d, spine_length - depth);
+    }
+
+    /**
+     * Check that the workspace can hold the search of a decoder.
+     *
+     * @param decoder The decoder.
+     *
+     * @return Whether k and B are the same and the depth is large enough.
+     */
+    public boolean fits(SpinalDecoder decoder) {
+        return decoder.getK() == this.k && decoder.getB() == this.B && decoder.getD() <= this.d;
+    }
+
+    /**
+     * Get the symbol buffer, emptied for a message.
+     *
+     * @param spine_length The number of spine values of the message.
+     *
+     * @return Empty symbol buffer.
+     */
+    public SymbolBuffer getBuffer(int spine_length) {
+        this.buffer.reset(spine_length);
+        return this.buffer;
+    }
+
+    /**
+     * Get the beam store, reset for a message.
+     *
+     * @param depth The depth of sub-tree.
+     * @param step_count The number of pruning steps.
+     *
+     * @return Empty beam store.
+     */
+    public BeamStore getStore(int depth, int step_count) {
+        this.store.reset(depth, step_count);
+        return this.store;
+    }
+
+    /**
+     * @param length The number of symbols needed.
+     *
+     * @return Array of at least length symbols, content undefined.
+     */
+    public int[] getSymbols_int(int length) {
+        if (this.symbols_int.length < length) {
+            this.symbols_int = new int[length];
+        }
+        return this.symbols_int;
+    }
+
+    /**
+     * @param length The number of message values needed.
+     *
+     * @return Array of at least length message values, content undefined.
+     */
+    public int[] getMessage_values(int length) {
+        if (this.message_values.length < length) {
+            this.message_values = new int[length];
+        }
+        return this.message_values;
+    }
+
+    /**
+     * @param length The number of bytes needed.
+     *
+     * @return Array of at least length bytes, content undefined.
+     */
+    public byte[] getMessage(int length) {
+        if (this.message.length < length) {
+            this.message = new byte[length];
+        }
+        return this.message;
+    }
+
+    /**
+     * Getters.
+     */
+    public int getK() {
+        return k;
+    }
+
+    public int getB() {
+        return B;
+    }
+
+    public int getD() {
+        return d;
+    }
+
+    public int getL() {
+        return l;
+    }
+}
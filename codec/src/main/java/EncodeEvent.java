@@ -0,0 +1,28 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * JDK Flight Recorder event of an encoding.
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("spinal.Encode")
+@Label("Spinal Encode")
+@Category("Spinal Codes")
+@Description("Spine values and l passes of symbols of one message")
+public class EncodeEvent extends jdk.jfr.Event {
+
+    @Label("Message Length")
+    @DataAmount
+    int message_length;
+
+    @Label("Symbols Length")
+    @DataAmount
+    int symbols_length;
+
+    @Label("Passes")
+    int l;
+}
@@ -0,0 +1,134 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Spine chain of one message, serving any pass of symbols on demand.
+ */
+
+public class EncoderSession {
+
+    private int[] spine_values;
+    private SymbolGenerator symbol_generator;
+    private BitPacker packer;
+    private int c;
+
+    /**
+     * Encoder session. The spine chain of the message is hashed once, by SpinalEncoder.session(), and
+     * kept as one int per spine value; symbols of any pass, or of any part of a pass, are then generated
+     * from it when asked for. A sender holding many messages in flight only spends time on the symbols
+     * it actually transmits.
+     *
+     * @param spine_values Spine values of the message.
+     * @param symbol_generator Generator of symbols.
+     * @param c The number of bits for each transmitted symbol.
+     *
+     */
+    public EncoderSession(int[] spine_values, SymbolGenerator symbol_generator, int c) {
+        this.spine_values = spine_values;
+        this.symbol_generator = symbol_generator;
+        this.packer = new BitPacker(c);
+        this.c = c;
+    }
+
+    /**
+     * Generate one symbol.
+     *
+     * @param spine_index Index of the spine value.
+     * @param pass Pass of the symbol.
+     *
+     * @return A 32-bit value, the last c bits contains the symbol.
+     */
+    public int symbol(int spine_index, int pass) {
+        return this.symbol_generator.symbol(this.spine_values[spine_index], pass);
+    }
+
+    /**
+     * Generate the symbols of a range of spine values in one pass.
+     *
+     * @param pass Pass of the symbols.
+     * @param from Index of the first spine value.
+     * @param to Index after the last spine value.
+     * @param symbols Array receiving the symbols (the last c bits of each int).
+     * @param offset Index of the first symbol in symbols.
+     *
+     * @return The number of symbols generated.
+     */
+    public int symbols(int pass, int from, int to, int[] symbols, int offset) {
+        for (int i = from; i < to; i++) {
+            symbols[offset++] = this.symbol_generator.symbol(this.spine_values[i], pass);
+        }
+        return to - from;
+    }
+
+    /**
+     * Generate the symbols of a sub-pass, e.g. PuncturingSchedule.getSubpass(), in one pass.
+     *
+     * @param pass Pass of the symbols.
+     * @param spine_indices Indices of the spine values.
+     * @param symbols Array receiving the symbols (the last c bits of each int).
+     * @param offset Index of the first symbol in symbols.
+     *
+     * @return The number of symbols generated.
+     */
+    public int symbols(int pass, int[] spine_indices, int[] symbols, int offset) {
+        for (int spine_index : spine_indices) {
+            symbols[offset++] = this.symbol_generator.symbol(this.spine_values[spine_index], pass);
+        }
+        return spine_indices.length;
+    }
+
+    /**
+     * Generate passes of symbols, packed as by SpinalEncoder.encode(): passes(0, l) is the encoding of
+     * the message with l passes. Symbols are packed back to back, e.g. for c = 5:
+     *     symbols: [0]0...0 0 1 2 3 4 (32-bits)
+     *              [1]0...0 5 6 7 8 9 (32-bits)
+     *              ...
+     *     bytes:   [0]0 1 2 3 4 | 5 6 7
+     *              [1]8 9 | 10 11 12 13
+     *              ...
+     *
+     * @param from The first pass.
+     * @param to The pass after the last one.
+     *
+     * @return Array of encoded bytes.
+     */
+    public byte[] passes(int from, int to) {
+        int[] temp_symbols = new int[(to - from) * this.spine_values.length];
+        int offset = 0;
+        for (int pass = from; pass < to; pass++) {
+            offset += this.symbols(pass, 0, this.spine_values.length, temp_symbols, offset);
+        }
+        return this.packer.pack(temp_symbols, temp_symbols.length * this.c / 8);
+    }
+
+    /**
+     * Generate one pass of symbols.
+     *
+     * @param pass Pass of the symbols.
+     *
+     * @return Array of encoded bytes.
+     */
+    public byte[] pass(int pass) {
+        return this.passes(pass, pass + 1);
+    }
+
+    /**
+     * Generate a lazy stream of the symbols, in the order of a puncturing schedule.
+     *
+     * @param schedule Puncturing schedule, e.g. StridedPuncturingSchedule.
+     *
+     * @return Rateless symbol stream sharing the spine values of the session.
+     */
+    public SymbolStream stream(PuncturingSchedule schedule) {
+        return new SymbolStream(this.spine_values, this.symbol_generator, schedule);
+    }
+
+    /**
+     * Getters.
+     */
+    public int getSpine_length() {
+        return spine_values.length;
+    }
+
+    public int getC() {
+        return c;
+    }
+}
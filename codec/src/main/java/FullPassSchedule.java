@@ -0,0 +1,21 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Unpunctured schedule, one full pass at a time.
+ */
+
+public class FullPassSchedule implements PuncturingSchedule {
+
+    @Override
+    public int getPeriod() {
+        return 1;
+    }
+
+    @Override
+    public int[] getSubpass(int subpass, int spine_length) {
+        int[] spine_indices = new int[spine_length];
+        for (int i = 0; i < spine_length; i++) {
+            spine_indices[i] = i;
+        }
+        return spine_indices;
+    }
+}
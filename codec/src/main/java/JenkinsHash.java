@@ -179,7 +179,7 @@ public class JenkinsHash {
         return is32BitHash ? c : ((((long) c) << 32)) | ((long) b &0xFFFFFFFFL);
     }
 
-    long rot(int x, int distance) {
+    int rot(int x, int distance) {
         return (x << distance) | (x >>> (32 - distance));
         // return (x << distance) | (x >>> -distance);
     }
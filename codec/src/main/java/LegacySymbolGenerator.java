@@ -0,0 +1,105 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Counter-based replay of RNG (java.util.Random seeded by the spine value).
+ */
+
+public class LegacySymbolGenerator implements SymbolGenerator {
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private int c;
+
+    // jump[2*j] and jump[2*j+1] advance the LCG state by j+1 draws: state' = state * jump[2*j] + jump[2*j+1]
+    private volatile long[] jump;
+
+    /**
+     * Legacy symbol generator, wire-compatible with the j-th call of new RNG(spine, c).next().
+     *
+     * java.util.Random is a 48-bit LCG, so the state after j+1 draws is an affine function of the
+     * initial state and can be reached in O(1) with precomputed multipliers and addends.
+     *
+     * @param c The length of symbol of each pass.
+     *
+     */
+    public LegacySymbolGenerator(int c) {
+        this.c = c;
+        this.jump = buildJump(16);
+    }
+
+    @Override
+    public int symbol(int spine, int pass) {
+        if (this.c >= 32) {
+            return this.symbolWithRejection(spine, pass);
+        }
+        long[] temp_jump = this.jump;
+        if (2 * pass + 1 >= temp_jump.length) {
+            temp_jump = this.growJump(pass);
+        }
+        long state = (((long) spine ^ MULTIPLIER) & MASK) * temp_jump[2 * pass] + temp_jump[2 * pass + 1];
+        int next31 = (int) ((state & MASK) >>> 17);
+        return next31 >> (31 - this.c);
+    }
+
+    /**
+     * RNG uses Random.nextInt(Integer.MAX_VALUE) for c >= 32, which may reject a draw,
+     * so the pass can not be reached by a fixed jump and the draws are replayed in order.
+     */
+    private int symbolWithRejection(int spine, int pass) {
+        long state = ((long) spine ^ MULTIPLIER) & MASK;
+        int bound = Integer.MAX_VALUE;
+        int r = 0;
+        for (int j = 0; j <= pass; j++) {
+            int u;
+            do {
+                state = (state * MULTIPLIER + ADDEND) & MASK;
+                u = (int) (state >>> 17);
+                r = u % bound;
+            } while (u - r + (bound - 1) < 0);
+        }
+        return r;
+    }
+
+    /**
+     * Jump table covering a pass, for kernels generating many symbols at once.
+     *
+     * @param pass The pass (from 0).
+     *
+     * @return Array of multipliers and addends, jump[2*pass] and jump[2*pass+1] advance the state to the pass.
+     */
+    long[] getJump(int pass) {
+        long[] temp_jump = this.jump;
+        if (2 * pass + 1 >= temp_jump.length) {
+            temp_jump = this.growJump(pass);
+        }
+        return temp_jump;
+    }
+
+    private synchronized long[] growJump(int pass) {
+        if (2 * pass + 1 >= this.jump.length) {
+            this.jump = buildJump(Math.max(pass + 1, this.jump.length));
+        }
+        return this.jump;
+    }
+
+    private static long[] buildJump(int passes) {
+        long[] temp_jump = new long[2 * passes];
+        long multiplier = MULTIPLIER;
+        long addend = ADDEND;
+        for (int j = 0; j < passes; j++) {
+            temp_jump[2 * j] = multiplier;
+            temp_jump[2 * j + 1] = addend;
+            multiplier = (multiplier * MULTIPLIER) & MASK;
+            addend = (addend * MULTIPLIER + ADDEND) & MASK;
+        }
+        return temp_jump;
+    }
+
+    /**
+     * Getters.
+     */
+    public int getC() {
+        return c;
+    }
+}
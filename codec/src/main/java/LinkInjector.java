@@ -0,0 +1,26 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Impairment of the packets sent by RatelessSender, e.g. loss and bit errors.
+ */
+
+import java.util.Random;
+
+public interface LinkInjector {
+
+    /**
+     * @param random Source of randomness of the link.
+     *
+     * @return Whether the next packet is lost.
+     */
+    boolean drop(Random random);
+
+    /**
+     * Corrupt a symbol of a packet that is not lost.
+     *
+     * @param symbol The transmitted symbol (c bits).
+     * @param random Source of randomness of the link.
+     *
+     * @return The received symbol (c bits).
+     */
+    int corrupt(int symbol, Random random);
+}
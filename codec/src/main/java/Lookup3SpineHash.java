@@ -0,0 +1,46 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Bob Jenkins' lookup3 specialized for two ints.
+ */
+
+public class Lookup3SpineHash implements SpineHash {
+
+    /**
+     * Returns exactly JenkinsHash.hash32 of the 8 little-endian bytes of (spine, message),
+     * without building the byte array.
+     *
+     * JenkinsHash adds the bytes as signed values, so every byte with its top bit set
+     * borrows 2^8 from the next byte. signedBytes() applies that borrow to a whole int.
+     */
+    @Override
+    public int hash(int spine, int message) {
+        int a, b, c;
+        a = b = c = 0xdeadbeef + 8;
+        a += signedBytes(spine);
+        b += signedBytes(message);
+
+        // Final mixing of three 32-bit values in to c
+        c ^= b;
+        c -= Integer.rotateLeft(b, 14);
+        a ^= c;
+        a -= Integer.rotateLeft(c, 11);
+        b ^= a;
+        b -= Integer.rotateLeft(a, 25);
+        c ^= b;
+        c -= Integer.rotateLeft(b, 16);
+        a ^= c;
+        a -= Integer.rotateLeft(c, 4);
+        b ^= a;
+        b -= Integer.rotateLeft(a, 14);
+        c ^= b;
+        c -= Integer.rotateLeft(b, 24);
+        return c;
+    }
+
+    /**
+     * @return k[0] + (k[1] << 8) + (k[2] << 16) + (k[3] << 24) with sign-extended bytes of x.
+     */
+    private static int signedBytes(int x) {
+        return x - ((x & 0x00808080) << 1);
+    }
+}
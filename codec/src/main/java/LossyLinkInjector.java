@@ -0,0 +1,57 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Independent packet loss and bit errors.
+ */
+
+import java.util.Random;
+
+public class LossyLinkInjector implements LinkInjector {
+
+    private int c;
+    private double loss_rate;
+    private double bit_error_rate;
+
+    /**
+     * Lossy link. Each packet is lost with probability loss_rate, and each bit of a delivered symbol
+     * is flipped with probability bit_error_rate.
+     *
+     * @param c The number of bits for each transmitted symbol.
+     * @param loss_rate Probability of losing a packet.
+     * @param bit_error_rate Probability of flipping a bit of a symbol.
+     *
+     */
+    public LossyLinkInjector(int c, double loss_rate, double bit_error_rate) {
+        this.c = c;
+        this.loss_rate = loss_rate;
+        this.bit_error_rate = bit_error_rate;
+    }
+
+    @Override
+    public boolean drop(Random random) {
+        return this.loss_rate > 0 && random.nextDouble() < this.loss_rate;
+    }
+
+    @Override
+    public int corrupt(int symbol, Random random) {
+        if (this.bit_error_rate <= 0) {
+            return symbol;
+        }
+        for (int i = 0; i < this.c; i++) {
+            if (random.nextDouble() < this.bit_error_rate) {
+                symbol ^= 1 << i;
+            }
+        }
+        return symbol;
+    }
+
+    /**
+     * Getters.
+     */
+    public double getLoss_rate() {
+        return loss_rate;
+    }
+
+    public double getBit_error_rate() {
+        return bit_error_rate;
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Created by SeAxiAoD on 2019/11/12.
+ */
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class Main {
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            codeFile(args);
+            return;
+        }
+
+        /************************ Step 1: Initialization ***********************/
+        SpinalEncoder encoder = new SpinalEncoder(4,32,6,1);
+        SpinalDecoder decoder = new SpinalDecoder(4,32,6,1, 16, 1);
+        String message128 = "01234567890123456789012345678901234567890123456789012345678901234567890123456789012345678901234567890123456789012345678901234567";
+//        String message = "11111111";
+        byte[] message_bytes = message128.getBytes();
+
+        /************************ Step 2: Decoding ***********************/
+        long start_time = System.currentTimeMillis();
+        byte[] symbols = encoder.encode(message_bytes);
+        long encoding_time = System.currentTimeMillis();
+
+        /************************ Step 3: Disturbance ***********************/
+//        System.out.println(symbols[62]);
+//        symbols[60] = -76;
+
+        /************************ Step 4: Decoding ***********************/
+        byte[] decoded_symbols = decoder.decode(symbols);
+        long decoding_time = System.currentTimeMillis();
+
+        System.out.printf("Message\t\t\tDecoded message\n");
+        for (int i = 0; i < decoded_symbols.length; i++) {
+            System.out.printf("%d\t\t\t%d\n", message_bytes[i], decoded_symbols[i]);
+        }
+
+        /************************ Step 5: Output ***********************/
+        System.out.println("Encoding cost:");
+        System.out.println(encoding_time - start_time);
+        System.out.println("Decoding cost:");
+        System.out.println(decoding_time - encoding_time);
+    }
+
+    /**
+     * Encode a file into a file of block frames, or decode it back, through memory-mapped files, and print
+     * the throughput.
+     *
+     * Usage: Main encode|decode <input> <output> [key=value ...], keys (defaults in brackets): k [4], v [32],
+     * c [6], l [1], B [16], d [1], block (payload bytes per block) [1024], threads [available processors].
+     * Decoding needs the parameters used for encoding.
+     */
+    private static void codeFile(String[] args) throws Exception {
+        if (args.length < 3 || !(args[0].equals("encode") || args[0].equals("decode"))) {
+            throw new IllegalArgumentException("Usage: Main encode|decode <input> <output> [key=value ...]");
+        }
+        HashMap<String, String> options = new HashMap<String, String>();
+        for (int i = 3; i < args.length; i++) {
+            int split = args[i].indexOf('=');
+            if (split < 0) {
+                throw new IllegalArgumentException("Expected key=value: " + args[i]);
+            }
+            options.put(args[i].substring(0, split), args[i].substring(split + 1));
+        }
+        int k = Integer.parseInt(options.getOrDefault("k", "4"));
+        int v = Integer.parseInt(options.getOrDefault("v", "32"));
+        int c = Integer.parseInt(options.getOrDefault("c", "6"));
+        int l = Integer.parseInt(options.getOrDefault("l", "1"));
+        int B = Integer.parseInt(options.getOrDefault("B", "16"));
+        int d = Integer.parseInt(options.getOrDefault("d", "1"));
+        int block_length = Integer.parseInt(options.getOrDefault("block", "1024"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try (FileChannel in = FileChannel.open(Paths.get(args[1]), StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(Paths.get(args[2]), StandardOpenOption.READ, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            SpinalDecoder decoder = new SpinalDecoder(k, v, c, l, B, d);
+            decoder.setVectorized(true);
+            BlockCodec codec = new BlockCodec(new SpinalEncoder(k, v, c, l), decoder, block_length, pool);
+            long start_time = System.nanoTime();
+            long payload_length = args[0].equals("encode") ? codec.encode(in, out) : codec.decode(in, out);
+            double seconds = (System.nanoTime() - start_time) / 1e9;
+            System.out.printf("%sd %d payload bytes (%d -> %d bytes) in %.3f s: %.3f MB/s%n", args[0], payload_length,
+                    in.size(), out.size(), seconds, payload_length / 1e6 / seconds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
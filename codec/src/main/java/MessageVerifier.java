@@ -0,0 +1,14 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Check of a decoded message, e.g. a CRC.
+ */
+
+public interface MessageVerifier {
+
+    /**
+     * @param message Decoded message (including padding).
+     *
+     * @return Whether the message is accepted as correctly decoded.
+     */
+    boolean verify(byte[] message);
+}
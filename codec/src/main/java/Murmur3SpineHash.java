@@ -0,0 +1,39 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * MurmurHash3 (x86_32) specialized for two ints.
+ */
+
+public class Murmur3SpineHash implements SpineHash {
+
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+
+    /**
+     * Same value as MurmurHash3_x86_32 of the 8 little-endian bytes of (spine, message) with seed 0.
+     * Not compatible with symbols encoded by lookup3.
+     */
+    @Override
+    public int hash(int spine, int message) {
+        int h = mixH(0, mixK(spine));
+        h = mixH(h, mixK(message));
+        h ^= 8;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int mixK(int k) {
+        k *= C1;
+        k = Integer.rotateLeft(k, 15);
+        return k * C2;
+    }
+
+    private static int mixH(int h, int k) {
+        h ^= k;
+        h = Integer.rotateLeft(h, 13);
+        return h * 5 + 0xe6546b64;
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Uniform pulse amplitude modulation of c-bit symbols.
+ */
+
+public class PamSymbolMapper implements SymbolMapper {
+
+    private static final int MAX_TABLE_BITS = 16;
+
+    private int c;
+    private float peak;
+    private float[] table;
+
+    /**
+     * PAM mapper. The 2^c symbols are evenly spaced in [-peak, peak], symbol 0 at -peak.
+     * An I/Q sample carries two consecutive symbols, one on each component.
+     *
+     * @param c The number of bits for each transmitted symbol.
+     * @param peak The largest amplitude.
+     *
+     */
+    public PamSymbolMapper(int c, float peak) {
+        this.c = c;
+        this.peak = peak;
+        if (c <= MAX_TABLE_BITS) {
+            this.table = new float[1 << c];
+            for (int i = 0; i < this.table.length; i++) {
+                this.table[i] = this.compute(i);
+            }
+        }
+    }
+
+    /**
+     * PAM mapper with amplitudes in [-1, 1].
+     *
+     * @param c The number of bits for each transmitted symbol.
+     *
+     */
+    public PamSymbolMapper(int c) {
+        this(c, 1.0f);
+    }
+
+    @Override
+    public float amplitude(int symbol) {
+        return this.table != null ? this.table[symbol] : this.compute(symbol);
+    }
+
+    private float compute(int symbol) {
+        double levels = Math.pow(2, this.c) - 1;
+        if (levels == 0) {
+            return 0;
+        }
+        return (float) (((symbol & 0xFFFFFFFFL) * 2 - levels) / levels * this.peak);
+    }
+
+    /**
+     * Getters.
+     */
+    public int getC() {
+        return c;
+    }
+
+    public float getPeak() {
+        return peak;
+    }
+}
@@ -0,0 +1,22 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Order in which the encoder transmits symbols of spine values.
+ */
+
+public interface PuncturingSchedule {
+
+    /**
+     * @return The number of sub-passes after which the schedule repeats.
+     */
+    int getPeriod();
+
+    /**
+     * Spine values transmitted in a sub-pass. Every spine value sent gets its next pass.
+     *
+     * @param subpass The sub-pass in the period, from 0 to getPeriod() - 1.
+     * @param spine_length The number of spine values of the message.
+     *
+     * @return Indices of spine values, in order of transmission.
+     */
+    int[] getSubpass(int subpass, int spine_length);
+}
@@ -1,6 +1,9 @@
 /**
  * Created by SeAxiAoD on 2019/11/12.
  * Random Number Generator
+ *
+ * Encoder and decoder use LegacySymbolGenerator, which returns the same values without
+ * allocating a Random per spine value.
  */
 
 import java.util.Random;
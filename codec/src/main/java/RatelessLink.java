@@ -0,0 +1,106 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Loopback harness of RatelessSender and RatelessReceiver, reporting goodput and time to decode.
+ */
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RatelessLink {
+
+    public static final String CSV_HEADER = "messages,delivered,correct,loss,ber,rate,time_to_decode_us,goodput_bps";
+
+    /**
+     * Send random messages from a sender to a receiver on localhost and write one CSV row of statistics.
+     *
+     * Arguments are key=value pairs (defaults in brackets): k [4], v [32], c [8], B [16], d [1],
+     * length (payload bytes) [32], messages [100], loss (packet loss rate) [0], ber (bit error rate) [0],
+     * packet (symbols per packet) [128], timeout (ACK timeout in ms) [10], max_passes [16], seed [1].
+     */
+    public static void main(String[] args) throws Exception {
+        HashMap<String, String> options = new HashMap<String, String>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split < 0) {
+                throw new IllegalArgumentException("Expected key=value: " + arg);
+            }
+            options.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+        int k = Integer.parseInt(options.getOrDefault("k", "4"));
+        int v = Integer.parseInt(options.getOrDefault("v", "32"));
+        int c = Integer.parseInt(options.getOrDefault("c", "8"));
+        int B = Integer.parseInt(options.getOrDefault("B", "16"));
+        int d = Integer.parseInt(options.getOrDefault("d", "1"));
+        int length = Integer.parseInt(options.getOrDefault("length", "32"));
+        int messages = Integer.parseInt(options.getOrDefault("messages", "100"));
+        double loss = Double.parseDouble(options.getOrDefault("loss", "0"));
+        double ber = Double.parseDouble(options.getOrDefault("ber", "0"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+
+        // l only scales path costs, the number of passes sent is given by max_passes
+        SpinalEncoder encoder = new SpinalEncoder(k, v, c, 1);
+        encoder.setAppend_crc(true);
+        SpinalDecoder decoder = new SpinalDecoder(k, v, c, 1, B, d);
+
+        RatelessReceiver receiver = new RatelessReceiver(decoder, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        ConcurrentHashMap<Integer, byte[]> received = new ConcurrentHashMap<Integer, byte[]>();
+        Thread receiver_thread = new Thread(() -> {
+            try {
+                while (true) {
+                    byte[] payload = receiver.receive();
+                    received.put(receiver.getMessage_id(), payload);
+                }
+            } catch (ClosedChannelException e) {
+                // closed after the last message
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }, "rateless-receiver");
+        receiver_thread.start();
+
+        int delivered = 0;
+        long symbol_count = 0, payload_bits = 0, decode_nanos = 0, total_nanos = 0;
+        byte[][] sent = new byte[messages][];
+        try (RatelessSender sender = new RatelessSender(encoder, receiver.getLocal_address())) {
+            sender.setInjector(new LossyLinkInjector(c, loss, ber), seed);
+            sender.setSymbols_per_packet(Integer.parseInt(options.getOrDefault("packet", "128")));
+            sender.setAck_timeout(Long.parseLong(options.getOrDefault("timeout", "10")));
+            sender.setMax_passes(Integer.parseInt(options.getOrDefault("max_passes", "16")));
+
+            Random random = new Random(seed);
+            for (int i = 0; i < messages; i++) {
+                sent[i] = new byte[length];
+                random.nextBytes(sent[i]);
+                TransferReport report = sender.send(i, sent[i]);
+                symbol_count += report.getSymbol_count();
+                total_nanos += report.getNanos();
+                if (report.isAcked()) {
+                    delivered++;
+                    payload_bits += 8L * length;
+                    decode_nanos += report.getNanos();
+                }
+            }
+        } finally {
+            receiver.close();
+            receiver_thread.join();
+        }
+
+        int correct = 0;
+        for (int i = 0; i < messages; i++) {
+            if (Arrays.equals(received.get(i), sent[i])) {
+                correct++;
+            }
+        }
+        System.out.println(CSV_HEADER);
+        System.out.println(String.format("%d,%d,%d,%.4f,%.2e,%.6f,%.2f,%.1f", messages, delivered, correct, loss, ber,
+                symbol_count == 0 ? 0 : (double) payload_bits / symbol_count,
+                delivered == 0 ? 0 : decode_nanos / 1e3 / delivered,
+                total_nanos == 0 ? 0 : payload_bits / (total_nanos / 1e9)));
+    }
+}
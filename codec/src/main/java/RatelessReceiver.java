@@ -0,0 +1,204 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Receiver of rateless symbol packets over UDP, decoding incrementally and acknowledging.
+ */
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.Arrays;
+
+public class RatelessReceiver implements AutoCloseable {
+
+    private static final int MAX_PACKET_LENGTH = 65507; // largest UDP payload
+
+    private SpinalDecoder decoder;
+    private MessageVerifier verifier;
+    private DatagramChannel channel;
+    private ByteBufferPool pool;
+    private ByteBuffer feedback;
+
+    // session of the current message
+    private DecoderSession session;
+    private int message_id;
+    private int payload_length;
+    private int received_count;
+    private boolean delivered;
+
+    private long packet_count;
+    private long decode_count;
+
+    /**
+     * Rateless receiver for the packets of RatelessSender. Symbols are parsed straight from the packet
+     * buffer into a DecoderSession, and the session attempts to decode at the end of every sub-pass:
+     * a message passing the CRC is acknowledged and delivered, otherwise a NACK asks for more symbols.
+     * Message identifiers increase (modulo 2^32): a packet of a newer message starts a new session, and
+     * packets of older messages are dropped.
+     *
+     * @param decoder Decoder with the parameters of the encoder of the sender.
+     * @param local Address to bind, e.g. new InetSocketAddress(InetAddress.getLoopbackAddress(), 0).
+     *
+     * @throws IOException If the channel cannot be bound.
+     */
+    public RatelessReceiver(SpinalDecoder decoder, SocketAddress local) throws IOException {
+        this.decoder = decoder;
+        this.verifier = new CrcVerifier();
+        this.pool = new ByteBufferPool(MAX_PACKET_LENGTH, 1);
+        this.feedback = ByteBuffer.allocateDirect(RatelessSender.FEEDBACK_LENGTH);
+        this.channel = DatagramChannel.open();
+        this.channel.bind(local);
+    }
+
+    /**
+     * Receive packets until a new message is decoded.
+     *
+     * @return Payload of the message, whose identifier is then given by getMessage_id().
+     *
+     * @throws IOException If receiving or sending fails, e.g. AsynchronousCloseException when closed.
+     */
+    public byte[] receive() throws IOException {
+        ByteBuffer packet = this.pool.acquire();
+        try {
+            while (true) {
+                packet.clear();
+                SocketAddress sender = this.channel.receive(packet);
+                packet.flip();
+                if (packet.remaining() < RatelessSender.HEADER_LENGTH
+                        || (packet.get(0) & ~RatelessSender.FLAG_SUBPASS_END) != RatelessSender.TYPE_SYMBOLS) {
+                    continue;
+                }
+                boolean subpass_end = (packet.get(0) & RatelessSender.FLAG_SUBPASS_END) != 0;
+                int id = packet.getInt(1);
+                if (this.session != null && id == this.message_id && this.delivered) {
+                    // late packets of a delivered message: the ACK may have been lost
+                    if (subpass_end) {
+                        this.sendFeedback(sender, RatelessSender.TYPE_ACK);
+                    }
+                    continue;
+                }
+                if (this.session != null && id - this.message_id < 0) {
+                    // late or reordered packets of an earlier message
+                    continue;
+                }
+                if (this.session == null || id != this.message_id) {
+                    int payload_length = packet.getInt(5);
+                    if (!this.checkLength(payload_length)) {
+                        // corrupt or forged header: never allocate a session from it
+                        continue;
+                    }
+                    this.startSession(id, payload_length);
+                }
+
+                // add the symbols of the packet
+                int count = Math.min(packet.getShort(9) & 0xffff,
+                        (packet.remaining() - RatelessSender.HEADER_LENGTH) / RatelessSender.SYMBOL_LENGTH);
+                int spine_length = this.session.getBuffer().getSpine_length();
+                for (int i = 0; i < count; i++) {
+                    int position = RatelessSender.HEADER_LENGTH + i * RatelessSender.SYMBOL_LENGTH;
+                    int spine_index = packet.getShort(position) & 0xffff;
+                    if (spine_index < spine_length) {
+                        this.session.addSymbol(spine_index, packet.getShort(position + 2) & 0xffff,
+                                packet.getShort(position + 4) & 0xffff);
+                    }
+                }
+                this.received_count += count;
+                this.packet_count++;
+                if (!subpass_end) {
+                    continue;
+                }
+
+                // attempt to decode at the end of a sub-pass
+                byte[] decoded = this.session.decode();
+                this.decode_count++;
+                if (this.session.isSuccess()) {
+                    this.delivered = true;
+                    this.sendFeedback(sender, RatelessSender.TYPE_ACK);
+                    return Arrays.copyOf(decoded, this.payload_length);
+                }
+                this.sendFeedback(sender, RatelessSender.TYPE_NACK);
+            }
+        } finally {
+            this.pool.release(packet);
+        }
+    }
+
+    /**
+     * Check the payload length of a packet against the lengths RatelessSender sends: positive, and with
+     * spine indices fitting the 16-bit fields of a packet.
+     *
+     * @param payload_length The number of payload bytes given by the packet.
+     *
+     * @return Whether a session may be started for the length.
+     */
+    private boolean checkLength(int payload_length) {
+        int k = this.decoder.getK();
+        if (payload_length <= 0 || payload_length > (RatelessSender.MAX_FIELD + 1) * k / 8) {
+            return false;
+        }
+        long spine_length = (long) CrcVerifier.getLength(payload_length, k) * 8 / k;
+        return spine_length <= RatelessSender.MAX_FIELD + 1;
+    }
+
+    /**
+     * Start receiving a new message, reusing the session when the length is the same.
+     *
+     * @param id Identifier of the message.
+     * @param payload_length The number of payload bytes.
+     */
+    private void startSession(int id, int payload_length) {
+        int message_length = CrcVerifier.getLength(payload_length, this.decoder.getK());
+        if (this.session != null && this.session.getMessage_length() == message_length) {
+            this.session.reset();
+        }
+        else {
+            this.session = new DecoderSession(this.decoder, message_length);
+            this.session.setVerifier(this.verifier);
+        }
+        this.message_id = id;
+        this.payload_length = payload_length;
+        this.received_count = 0;
+        this.delivered = false;
+    }
+
+    /**
+     * Send an ACK or a NACK of the current message.
+     *
+     * @param sender Address of the sender.
+     * @param type RatelessSender.TYPE_ACK or RatelessSender.TYPE_NACK.
+     *
+     * @throws IOException If sending fails.
+     */
+    private void sendFeedback(SocketAddress sender, byte type) throws IOException {
+        this.feedback.clear();
+        this.feedback.put(type);
+        this.feedback.putInt(this.message_id);
+        this.feedback.putInt(this.received_count);
+        this.feedback.flip();
+        this.channel.send(this.feedback, sender);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * Getters.
+     */
+    public SocketAddress getLocal_address() throws IOException {
+        return channel.getLocalAddress();
+    }
+
+    public int getMessage_id() {
+        return message_id;
+    }
+
+    public long getPacket_count() {
+        return packet_count;
+    }
+
+    public long getDecode_count() {
+        return decode_count;
+    }
+}
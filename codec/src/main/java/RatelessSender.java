@@ -0,0 +1,276 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Sender of rateless symbol packets over UDP, stopped by the ACK of the receiver.
+ */
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Random;
+
+public class RatelessSender implements AutoCloseable {
+
+    // packet types, in the first byte (bit 7 flags the last packet of a sub-pass)
+    public static final byte TYPE_SYMBOLS = 0;
+    public static final byte TYPE_ACK = 1;
+    public static final byte TYPE_NACK = 2;
+    public static final byte FLAG_SUBPASS_END = (byte) 0x80;
+
+    public static final int HEADER_LENGTH = 11;
+    public static final int SYMBOL_LENGTH = 6;
+    public static final int FEEDBACK_LENGTH = 9;
+    public static final int MAX_FIELD = 0xffff; // largest spine index, pass or symbol of a packet
+
+    private SpinalEncoder encoder;
+    private PuncturingSchedule schedule;
+    private DatagramChannel channel;
+    private Selector selector;
+    private SelectionKey key;
+    private ByteBufferPool pool;
+    private LinkInjector injector;
+    private Random random;
+    private int symbols_per_packet;
+    private int max_passes;
+    private long ack_timeout; // in milliseconds
+
+    /**
+     * Rateless sender. A message is sent as symbol packets, one sub-pass of the puncturing schedule at a
+     * time. After each sub-pass the sender waits for the feedback of the receiver: an ACK ends the message,
+     * a NACK (or no feedback within ack_timeout) sends the next sub-pass. Packets are
+     *     symbols:  [type | flags (1)][message id (4)][payload length (4)][symbol count (2)]
+     *               then [spine index (2)][pass (2)][symbol (2)] per symbol
+     *     feedback: [type (1)][message id (4)][symbols received (4)]
+     * with big-endian integers, so c is at most 16, and spine indices and passes are below 2^16.
+     *
+     * @param encoder Encoder of messages, which must append a CRC (setAppend_crc) for the receiver to check.
+     * @param receiver Address of the receiver.
+     *
+     * @throws IOException If the channel cannot be opened.
+     */
+    public RatelessSender(SpinalEncoder encoder, SocketAddress receiver) throws IOException {
+        if (encoder.getC() > 16) {
+            throw new IllegalArgumentException("Symbol packets hold at most 16 bits per symbol");
+        }
+        this.encoder = encoder;
+        this.schedule = new StridedPuncturingSchedule();
+        this.symbols_per_packet = 128;
+        this.max_passes = 16;
+        this.ack_timeout = 10;
+        this.random = new Random(1);
+        this.pool = new ByteBufferPool(HEADER_LENGTH + this.symbols_per_packet * SYMBOL_LENGTH, 4);
+        this.channel = DatagramChannel.open();
+        this.channel.connect(receiver);
+        this.channel.configureBlocking(false);
+        this.selector = Selector.open();
+        this.key = this.channel.register(this.selector, SelectionKey.OP_READ);
+    }
+
+    /**
+     * Send a message until the receiver acknowledges it or max_passes passes were sent.
+     *
+     * @param message_id Identifier of the message, greater than the previous one (modulo 2^32).
+     * @param message_byte Payload bytes.
+     *
+     * @return Statistics of the transfer.
+     *
+     * @throws IOException If sending or receiving fails.
+     */
+    public TransferReport send(int message_id, byte[] message_byte) throws IOException {
+        this.checkFields(message_byte.length);
+        long start_time = System.nanoTime();
+        SymbolStream stream = this.encoder.symbolStream(message_byte, this.schedule);
+        long max_symbols = (long) this.max_passes * stream.getSpine_length();
+        int packet_count = 0, dropped_count = 0;
+        boolean acked = false;
+        while (stream.hasNext() && !acked && stream.getSymbol_count() < max_symbols) {
+
+            // send one sub-pass, symbols_per_packet symbols per packet
+            boolean subpass_end = false;
+            while (!subpass_end) {
+                ByteBuffer packet = this.pool.acquire();
+                packet.position(HEADER_LENGTH);
+                int count = 0;
+                while (count < this.symbols_per_packet && !subpass_end) {
+                    int symbol = stream.next();
+                    if (stream.getPass() > MAX_FIELD) {
+                        throw new IllegalStateException("Pass " + stream.getPass() + " does not fit a symbol packet");
+                    }
+                    packet.putShort((short) stream.getSpine_index());
+                    packet.putShort((short) stream.getPass());
+                    packet.putShort((short) this.corrupt(symbol));
+                    subpass_end = stream.isSubpassEnd();
+                    count++;
+                }
+                packet.put(0, subpass_end ? (byte) (TYPE_SYMBOLS | FLAG_SUBPASS_END) : TYPE_SYMBOLS);
+                packet.putInt(1, message_id);
+                packet.putInt(5, message_byte.length);
+                packet.putShort(9, (short) count);
+                packet.flip();
+                packet_count++;
+                if (this.injector != null && this.injector.drop(this.random)) {
+                    dropped_count++;
+                }
+                else {
+                    this.write(packet);
+                }
+                this.pool.release(packet);
+            }
+            acked = this.awaitFeedback(message_id);
+        }
+        return new TransferReport(message_id, message_byte.length, stream.getSymbol_count(), packet_count,
+                dropped_count, System.nanoTime() - start_time, acked);
+    }
+
+    /**
+     * Check that a message is not empty and that its symbols, spine indices and passes fit the 16-bit
+     * fields of a packet (the receiver drops packets of other lengths).
+     *
+     * @param message_length The number of payload bytes.
+     */
+    private void checkFields(int message_length) {
+        if (message_length == 0) {
+            throw new IllegalArgumentException("Empty messages are not sent");
+        }
+        if (this.encoder.getC() > 16) {
+            throw new IllegalArgumentException("Symbol packets hold at most 16 bits per symbol");
+        }
+        long spine_length = (long) this.encoder.getEncoded_length(message_length) * 8 / this.encoder.getK();
+        if (spine_length > MAX_FIELD + 1) {
+            throw new IllegalArgumentException("Symbol packets hold at most " + (MAX_FIELD + 1) + " spine values: " + spine_length);
+        }
+    }
+
+    /**
+     * Write a packet, waiting for room in the send buffer of the socket rather than losing it.
+     *
+     * @param packet The packet.
+     *
+     * @throws IOException If sending fails.
+     */
+    private void write(ByteBuffer packet) throws IOException {
+        while (this.channel.write(packet) == 0) {
+            this.key.interestOps(SelectionKey.OP_WRITE);
+            this.selector.select();
+            this.selector.selectedKeys().clear();
+            this.key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Corrupt a symbol with the injector, if any.
+     */
+    private int corrupt(int symbol) {
+        return this.injector == null ? symbol : this.injector.corrupt(symbol, this.random);
+    }
+
+    /**
+     * Wait for the feedback of the receiver after a sub-pass.
+     *
+     * @param message_id Identifier of the message being sent.
+     *
+     * @return True for an ACK of the message, false for a NACK or no feedback within ack_timeout.
+     *
+     * @throws IOException If receiving fails.
+     */
+    private boolean awaitFeedback(int message_id) throws IOException {
+        long deadline = System.nanoTime() + this.ack_timeout * 1000000;
+        ByteBuffer feedback = this.pool.acquire();
+        try {
+            while (true) {
+                feedback.clear();
+                if (this.channel.receive(feedback) == null) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    this.selector.select(Math.max(1, remaining / 1000000));
+                    this.selector.selectedKeys().clear();
+                    continue;
+                }
+
+                // ignore late feedback of previous messages
+                feedback.flip();
+                if (feedback.remaining() < FEEDBACK_LENGTH || feedback.getInt(1) != message_id) {
+                    continue;
+                }
+                return feedback.get(0) == TYPE_ACK;
+            }
+        } finally {
+            this.pool.release(feedback);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.selector.close();
+        this.channel.close();
+    }
+
+    /**
+     * Getters and setters.
+     */
+    public PuncturingSchedule getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * @param schedule Puncturing schedule of the transmitted symbols, 8-way StridedPuncturingSchedule by default.
+     */
+    public void setSchedule(PuncturingSchedule schedule) {
+        this.schedule = schedule;
+    }
+
+    public LinkInjector getInjector() {
+        return injector;
+    }
+
+    /**
+     * @param injector Loss and noise of the link, or null for a clean link.
+     * @param seed Seed of the randomness of the link.
+     */
+    public void setInjector(LinkInjector injector, long seed) {
+        this.injector = injector;
+        this.random = new Random(seed);
+    }
+
+    public int getSymbols_per_packet() {
+        return symbols_per_packet;
+    }
+
+    /**
+     * @param symbols_per_packet The largest number of symbols of a packet, 128 by default.
+     */
+    public void setSymbols_per_packet(int symbols_per_packet) {
+        this.symbols_per_packet = symbols_per_packet;
+        this.pool = new ByteBufferPool(HEADER_LENGTH + symbols_per_packet * SYMBOL_LENGTH, 4);
+    }
+
+    public int getMax_passes() {
+        return max_passes;
+    }
+
+    /**
+     * @param max_passes The number of passes after which an unacknowledged message is given up, 16 by default
+     *                   (at most 2^16, passes are 16-bit fields of packets).
+     */
+    public void setMax_passes(int max_passes) {
+        if (max_passes > MAX_FIELD + 1) {
+            throw new IllegalArgumentException("Symbol packets hold at most " + (MAX_FIELD + 1) + " passes: " + max_passes);
+        }
+        this.max_passes = max_passes;
+    }
+
+    public long getAck_timeout() {
+        return ack_timeout;
+    }
+
+    /**
+     * @param ack_timeout Time to wait for feedback after a sub-pass before sending the next one, in milliseconds (10 by default).
+     */
+    public void setAck_timeout(long ack_timeout) {
+        this.ack_timeout = ack_timeout;
+    }
+}
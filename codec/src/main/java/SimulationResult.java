@@ -0,0 +1,127 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Statistics of the trials of one simulation point.
+ */
+
+import java.util.Locale;
+
+public class SimulationResult {
+
+    public static final String CSV_HEADER = "snr_db,trials,rate,ber,fer,symbols_per_frame,decode_us_per_frame,throughput_bps";
+
+    private double snr_db;
+    private int trials;
+    private int message_bits;
+    private long symbol_count;
+    private long bit_errors;
+    private int frame_errors;
+    private long decode_nanos;
+    private long wall_nanos;
+
+    /**
+     * Simulation result.
+     *
+     * @param snr_db Signal-to-noise ratio of the point in dB.
+     * @param trials The number of frames sent.
+     * @param message_bits The number of bits of each message.
+     * @param symbol_count The number of symbols sent over all trials.
+     * @param bit_errors The number of wrong bits of the final decoded messages.
+     * @param frame_errors The number of messages not decoded within the maximum number of passes.
+     * @param decode_nanos Time spent decoding, summed over trials.
+     * @param wall_nanos Elapsed time of the point.
+     *
+     */
+    public SimulationResult(double snr_db, int trials, int message_bits, long symbol_count, long bit_errors,
+                            int frame_errors, long decode_nanos, long wall_nanos) {
+        this.snr_db = snr_db;
+        this.trials = trials;
+        this.message_bits = message_bits;
+        this.symbol_count = symbol_count;
+        this.bit_errors = bit_errors;
+        this.frame_errors = frame_errors;
+        this.decode_nanos = decode_nanos;
+        this.wall_nanos = wall_nanos;
+    }
+
+    /**
+     * @return Achieved rate: message bits of the decoded frames per symbol sent (symbols of failed frames
+     *         count, their bits do not).
+     */
+    public double getRate() {
+        return this.symbol_count == 0 ? 0 : (double) this.getDecoded_bits() / this.symbol_count;
+    }
+
+    /**
+     * @return The number of message bits of the frames decoded within the maximum number of passes.
+     */
+    public long getDecoded_bits() {
+        return (long) (this.trials - this.frame_errors) * this.message_bits;
+    }
+
+    /**
+     * @return Bit error rate of the final decoded messages.
+     */
+    public double getBer() {
+        return this.trials == 0 ? 0 : (double) this.bit_errors / ((long) this.trials * this.message_bits);
+    }
+
+    /**
+     * @return Frame error rate.
+     */
+    public double getFer() {
+        return this.trials == 0 ? 0 : (double) this.frame_errors / this.trials;
+    }
+
+    /**
+     * @return Decoded message bits per second of elapsed time, over all workers.
+     */
+    public double getThroughput() {
+        return this.wall_nanos == 0 ? 0 : (double) this.getDecoded_bits() * 1e9 / this.wall_nanos;
+    }
+
+    /**
+     * @return Row of the point, in the columns of CSV_HEADER.
+     */
+    public String toCsv() {
+        return String.format(Locale.ROOT, "%.2f,%d,%.6f,%.6e,%.6e,%.2f,%.2f,%.1f",
+                this.snr_db, this.trials, this.getRate(), this.getBer(), this.getFer(),
+                this.trials == 0 ? 0.0 : (double) this.symbol_count / this.trials,
+                this.trials == 0 ? 0.0 : this.decode_nanos / 1e3 / this.trials,
+                this.getThroughput());
+    }
+
+    /**
+     * Getters.
+     */
+    public double getSnr_db() {
+        return snr_db;
+    }
+
+    public int getTrials() {
+        return trials;
+    }
+
+    public int getMessage_bits() {
+        return message_bits;
+    }
+
+    public long getSymbol_count() {
+        return symbol_count;
+    }
+
+    public long getBit_errors() {
+        return bit_errors;
+    }
+
+    public int getFrame_errors() {
+        return frame_errors;
+    }
+
+    public long getDecode_nanos() {
+        return decode_nanos;
+    }
+
+    public long getWall_nanos() {
+        return wall_nanos;
+    }
+}
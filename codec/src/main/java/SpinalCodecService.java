@@ -0,0 +1,218 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Asynchronous encoding and decoding on bounded worker pools.
+ */
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SpinalCodecService implements AutoCloseable {
+
+    private SpinalEncoder encoder;
+    private Decoder decoder;
+    private ThreadPoolExecutor encode_executor;
+    private ThreadPoolExecutor decode_executor;
+    private AtomicLong rejected_count;
+
+    /**
+     * Codec service. Encode and decode requests each go to their own pool of worker threads, in front of
+     * which at most queue_capacity requests wait. A request arriving at a full queue is not queued: its
+     * future fails at once with a RejectedExecutionException, so an overloaded server sheds load instead
+     * of growing the queue without bound.
+     *
+     * A request cancelled or past its deadline while queued leaves the queue and is never run. A request
+     * already running completes in its worker, but its result is dropped.
+     *
+     * @param encoder Encoder of messages.
+     * @param decoder Decoder of symbols (SpinalDecoder or StackDecoder), with the same parameters as the encoder.
+     * @param threads The number of worker threads of each pool.
+     * @param queue_capacity The number of requests of each pool waiting for a worker.
+     *
+     */
+    public SpinalCodecService(SpinalEncoder encoder, Decoder decoder, int threads, int queue_capacity) {
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.encode_executor = createExecutor("spinal-encode", threads, queue_capacity);
+        this.decode_executor = createExecutor("spinal-decode", threads, queue_capacity);
+        this.rejected_count = new AtomicLong();
+    }
+
+    /**
+     * Create a fixed pool of daemon workers behind a bounded queue.
+     *
+     * @param name Prefix of the thread names.
+     * @param threads The number of worker threads.
+     * @param queue_capacity The number of tasks waiting for a worker.
+     *
+     * @return Executor rejecting tasks when the queue is full.
+     */
+    private static ThreadPoolExecutor createExecutor(String name, int threads, int queue_capacity) {
+        AtomicInteger thread_count = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + thread_count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queue_capacity), factory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Encode a message.
+     *
+     * @param message_byte Message bytes.
+     * @param s_0 Spine value 0.
+     *
+     * @return Future of the encoded bytes.
+     */
+    public CompletableFuture<byte[]> encode(byte[] message_byte, int s_0) {
+        return this.submit(this.encode_executor, () -> this.encoder.encode(message_byte, s_0), 0, null);
+    }
+
+    /**
+     * Encode a message before a deadline.
+     *
+     * @param message_byte Message bytes.
+     * @param s_0 Spine value 0.
+     * @param timeout Time from now to the deadline.
+     * @param unit Unit of the timeout.
+     *
+     * @return Future of the encoded bytes, failing with a TimeoutException at the deadline.
+     */
+    public CompletableFuture<byte[]> encode(byte[] message_byte, int s_0, long timeout, TimeUnit unit) {
+        return this.submit(this.encode_executor, () -> this.encoder.encode(message_byte, s_0), timeout, unit);
+    }
+
+    /**
+     * Decode symbols.
+     *
+     * @param symbols Array of encoded bytes.
+     * @param s_0 Spine value 0, the one used by the encoder.
+     *
+     * @return Future of the decoded message.
+     */
+    public CompletableFuture<byte[]> decode(byte[] symbols, int s_0) {
+        return this.submit(this.decode_executor, () -> this.decoder.decode(symbols, s_0), 0, null);
+    }
+
+    /**
+     * Decode symbols before a deadline.
+     *
+     * @param symbols Array of encoded bytes.
+     * @param s_0 Spine value 0, the one used by the encoder.
+     * @param timeout Time from now to the deadline.
+     * @param unit Unit of the timeout.
+     *
+     * @return Future of the decoded message, failing with a TimeoutException at the deadline.
+     */
+    public CompletableFuture<byte[]> decode(byte[] symbols, int s_0, long timeout, TimeUnit unit) {
+        return this.submit(this.decode_executor, () -> this.decoder.decode(symbols, s_0), timeout, unit);
+    }
+
+    /**
+     * Queue a request on a pool.
+     *
+     * @param executor The pool.
+     * @param work The request.
+     * @param timeout Time from now to the deadline (ignored without a unit).
+     * @param unit Unit of the timeout, or null for no deadline.
+     *
+     * @return Future of the result, already failed when the queue is full.
+     */
+    private <T> CompletableFuture<T> submit(ThreadPoolExecutor executor, Callable<T> work, long timeout, TimeUnit unit) {
+        CompletableFuture<T> future = new CompletableFuture<T>();
+        Runnable task = () -> {
+            // skip requests cancelled or expired while queued
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(work.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            this.rejected_count.incrementAndGet();
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        // free the queue slot as soon as the request is cancelled or expired
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                executor.remove(task);
+            }
+        });
+        if (unit != null) {
+            future.orTimeout(timeout, unit);
+        }
+        return future;
+    }
+
+    /**
+     * Stop accepting requests. Queued requests still run; new ones fail with a RejectedExecutionException.
+     */
+    @Override
+    public void close() {
+        this.encode_executor.shutdown();
+        this.decode_executor.shutdown();
+    }
+
+    /**
+     * Wait for the queued requests to finish after close.
+     *
+     * @param timeout The longest time to wait.
+     * @param unit Unit of the timeout.
+     *
+     * @return Whether both pools terminated.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        return this.encode_executor.awaitTermination(timeout, unit)
+                && this.decode_executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Getters.
+     */
+    public SpinalEncoder getEncoder() {
+        return encoder;
+    }
+
+    public Decoder getDecoder() {
+        return decoder;
+    }
+
+    /**
+     * @return The number of decode requests waiting for a worker.
+     */
+    public int getDecode_queue_size() {
+        return decode_executor.getQueue().size();
+    }
+
+    /**
+     * @return The number of encode requests waiting for a worker.
+     */
+    public int getEncode_queue_size() {
+        return encode_executor.getQueue().size();
+    }
+
+    /**
+     * @return The number of requests refused because their queue was full.
+     */
+    public long getRejected_count() {
+        return rejected_count.get();
+    }
+}
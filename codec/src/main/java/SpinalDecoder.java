@@ -0,0 +1,946 @@
+/**
+ * Created by SeAxiAoD on 2019/11/26.
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.lang.Math;
+
+public class SpinalDecoder implements Decoder {
+
+    private static final int PARALLEL_GRAIN = 32; // frontier nodes expanded by one fork-join task
+
+    private int k, v, c, l, B, d;
+    private int min_B;
+    private double cost_margin; // adaptive beam width when finite
+    private int v_mask;
+    private ForkJoinPool pool;
+    private SpineHash spine_hash;
+    private SymbolGenerator symbol_generator;
+    private SymbolMapper symbol_mapper;
+    private boolean vectorized;
+    private ChildExpander expander; // hash, symbols and path costs of children
+    private ThreadLocal<DecoderWorkspace> workspace; // workspace of each thread calling decode
+    private BitUnpacker symbol_unpacker;
+    private BitPacker message_packer;
+    private DecoderListener listener;
+
+    /**
+     * Spinal codes decoder.
+     *
+     * @param k The number of bits for each message piece m. (k need to less than 32)
+     * @param v The number of bits for each spine value s. (v need to less than 32)
+     * @param c The number of bits for each transmitted symbol x_i,j. (c need to less than 32)
+     * @param l The number of passes.
+     * @param B The number of beam.
+     * @param d The depth of sub-tree using in decoding.
+     *
+     */
+    public SpinalDecoder(int k, int v, int c, int l, int B, int d) {
+        this.k = k;
+        this.v = v;
+        this.c = c;
+        this.l = l;
+        this.B = B;
+        this.d = d;
+        this.spine_hash = new Lookup3SpineHash();
+        this.symbol_generator = new LegacySymbolGenerator(c);
+        this.symbol_mapper = new PamSymbolMapper(c);
+        this.min_B = 1;
+        this.cost_margin = Double.POSITIVE_INFINITY;
+        this.symbol_unpacker = new BitUnpacker(c);
+        this.message_packer = new BitPacker(k);
+        this.workspace = ThreadLocal.withInitial(() -> new DecoderWorkspace(this.k, this.B, this.d, this.l, 0));
+
+        // build mask of v
+        if(v == 32) {
+            this.v_mask = 0xffffffff;
+        }
+        else {
+            for (int i = 0; i < v; i++) {
+                this.v_mask |= 1 << i;
+            }
+        }
+        this.updateExpander();
+    }
+
+    /**
+     * Decode symbols.
+     *
+     * @param symbols Array of encoded bytes.
+     *
+     * @return String of message for encoding.
+     *
+     */
+    @Override
+    public byte[] decode(byte[] symbols) {
+        return this.decode(symbols, 0);
+    }
+
+    /**
+     * Decode symbols of a spine chain starting from a given spine value.
+     *
+     * @param symbols Array of encoded bytes.
+     * @param s_0 Spine value 0, the one used by the encoder.
+     *
+     * @return String of message for encoding.
+     */
+    @Override
+    public byte[] decode(byte[] symbols, int s_0) {
+        DecoderWorkspace workspace = this.workspace.get();
+        int length = this.decode(symbols, s_0, workspace.getMessage(symbols.length / this.l * this.k / this.c), workspace);
+        return Arrays.copyOf(workspace.getMessage(length), length);
+    }
+
+    /**
+     * Decode symbols into a given array, using the buffers of a workspace. Decoding frames of the same
+     * size again and again allocates nothing after the first one.
+     *
+     * @param symbols Array of encoded bytes.
+     * @param s_0 Spine value 0, the one used by the encoder.
+     * @param message Array receiving the decoded message.
+     * @param workspace Workspace of the calling thread, created for the parameters of this decoder.
+     *
+     * @return The number of bytes of the decoded message.
+     */
+    public int decode(byte[] symbols, int s_0, byte[] message, DecoderWorkspace workspace) {
+        if (!workspace.fits(this)) {
+            throw new IllegalArgumentException("Workspace was not created for the parameters of the decoder");
+        }
+        int length = symbols.length / this.l * this.k / this.c;
+        SymbolBuffer buffer = this.toSymbolBuffer(symbols, symbols.length, workspace);
+        BeamStore store = this.createStore(buffer.getSpine_length(), workspace);
+        DecodeMetrics metrics = this.search(buffer, store, 0, s_0);
+        int[] message_values = workspace.getMessage_values(buffer.getSpine_length());
+        this.traceback(store, this.bestLeaf(store), message_values);
+        this.combineMessages(message_values, buffer.getSpine_length(), message, length);
+        this.finishMetrics(metrics);
+        return length;
+    }
+
+    /**
+     * Create a workspace for this decoder, e.g. for each worker thread of a server.
+     *
+     * @param max_message_length The number of bytes of the longest message expected.
+     *
+     * @return Workspace to be passed to decode(byte[], int, byte[], DecoderWorkspace).
+     */
+    public DecoderWorkspace createWorkspace(int max_message_length) {
+        return new DecoderWorkspace(this.k, this.B, this.d, this.l, max_message_length);
+    }
+
+    /**
+     * Decode a batch of independent frames.
+     *
+     * @param frames Arrays of encoded bytes, one per frame.
+     *
+     * @return Decoded messages, in the order of the frames.
+     */
+    public byte[][] decode(byte[][] frames) {
+        return this.decode(frames, new int[frames.length]);
+    }
+
+    /**
+     * Decode a batch of independent frames on the fork-join pool of the decoder (the common pool when none
+     * is set). Frames are split recursively down to single frames, so idle workers steal the remaining
+     * ones and frames of uneven decoding time stay balanced. Each worker decodes with its own workspace.
+     *
+     * @param frames Arrays of encoded bytes, one per frame.
+     * @param s_0 Spine value 0 of each frame.
+     *
+     * @return Decoded messages, in the order of the frames.
+     */
+    public byte[][] decode(byte[][] frames, int[] s_0) {
+        if (s_0.length != frames.length) {
+            throw new IllegalArgumentException("Expected " + frames.length + " spine values, got " + s_0.length);
+        }
+        byte[][] messages = new byte[frames.length][];
+        ForkJoinPool pool = this.pool == null ? ForkJoinPool.commonPool() : this.pool;
+        pool.invoke(new BatchTask(frames, s_0, messages, 0, frames.length));
+        return messages;
+    }
+
+    /**
+     * Fork-join task decoding a range of a batch.
+     */
+    private class BatchTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private byte[][] frames;
+        private int[] s_0;
+        private byte[][] messages;
+        private int from, to;
+
+        BatchTask(byte[][] frames, int[] s_0, byte[][] messages, int from, int to) {
+            this.frames = frames;
+            this.s_0 = s_0;
+            this.messages = messages;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= 1) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.messages[i] = decode(this.frames[i], this.s_0[i]);
+                }
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new BatchTask(this.frames, this.s_0, this.messages, this.from, mid),
+                    new BatchTask(this.frames, this.s_0, this.messages, mid, this.to));
+        }
+    }
+
+    /**
+     * Soft-decision decoding of received amplitudes, scored by Euclidean distance to the amplitudes
+     * of candidate symbols given by the symbol mapper.
+     *
+     * @param samples Received amplitudes of l passes, in the same order as the encoded symbols.
+     *
+     * @return String of message for encoding.
+     */
+    public byte[] decode(float[] samples) {
+        return this.decode(FloatBuffer.wrap(samples), 0);
+    }
+
+    /**
+     * Soft-decision decoding of received amplitudes of a spine chain starting from a given spine value.
+     *
+     * @param samples Received amplitudes of l passes, in the same order as the encoded symbols.
+     * @param s_0 Spine value 0, the one used by the encoder.
+     *
+     * @return String of message for encoding.
+     */
+    public byte[] decode(float[] samples, int s_0) {
+        return this.decode(FloatBuffer.wrap(samples), s_0);
+    }
+
+    /**
+     * Soft-decision decoding of received amplitudes.
+     *
+     * @param samples Received amplitudes of l passes, from position to limit, in the same order as the encoded symbols.
+     *
+     * @return String of message for encoding.
+     */
+    public byte[] decode(FloatBuffer samples) {
+        return this.decode(samples, 0);
+    }
+
+    /**
+     * Soft-decision decoding of received amplitudes of a spine chain starting from a given spine value.
+     *
+     * @param samples Received amplitudes of l passes, from position to limit, in the same order as the encoded symbols.
+     * @param s_0 Spine value 0, the one used by the encoder.
+     *
+     * @return String of message for encoding.
+     */
+    public byte[] decode(FloatBuffer samples, int s_0) {
+        int spine_length = samples.remaining() / this.l;
+        DecoderWorkspace workspace = this.workspace.get();
+        SymbolBuffer buffer = workspace.getBuffer(spine_length);
+        int offset = samples.position();
+        for (int j = 0; j < this.l; j++) {
+            for (int i = 0; i < spine_length; i++) {
+                buffer.addSample(i, j, samples.get(offset + j * spine_length + i));
+            }
+        }
+
+        BeamStore store = this.createStore(spine_length, workspace);
+        DecodeMetrics metrics = this.search(buffer, store, 0, s_0);
+        byte[] message = this.combineMessages(this.traceback(store, this.bestLeaf(store)), spine_length * this.k / 8);
+        this.finishMetrics(metrics);
+        return message;
+    }
+
+    /**
+     * CRC-aided list decoding of symbols.
+     *
+     * @param symbols Array of encoded bytes.
+     * @param verifier Check of decoded messages, e.g. CrcVerifier for an encoder with append_crc.
+     * @param list_size The number of lowest cost paths of the final beam to check (L).
+     *
+     * @return Decoded message, and whether a path passed the check.
+     */
+    public DecodeResult decode(byte[] symbols, MessageVerifier verifier, int list_size) {
+        return this.decode(symbols, 0, verifier, list_size);
+    }
+
+    /**
+     * CRC-aided list decoding of symbols of a spine chain starting from a given spine value.
+     *
+     * @param symbols Array of encoded bytes.
+     * @param s_0 Spine value 0, the one used by the encoder.
+     * @param verifier Check of decoded messages, e.g. CrcVerifier for an encoder with append_crc.
+     * @param list_size The number of lowest cost paths of the final beam to check (L).
+     *
+     * @return Decoded message, and whether a path passed the check.
+     */
+    public DecodeResult decode(byte[] symbols, int s_0, MessageVerifier verifier, int list_size) {
+        DecoderWorkspace workspace = this.workspace.get();
+        SymbolBuffer buffer = this.toSymbolBuffer(symbols, symbols.length, workspace);
+        BeamStore store = this.createStore(buffer.getSpine_length(), workspace);
+        DecodeMetrics metrics = this.search(buffer, store, 0, s_0);
+        DecodeResult result = this.selectPath(store, symbols.length / this.l * this.k / this.c, verifier, list_size);
+        this.finishMetrics(metrics);
+        return result;
+    }
+
+    /**
+     * Decode a stream of frames written by SpinalEncoder.encode(ReadableByteChannel, WritableByteChannel, int).
+     *
+     * The first spine value of a chunk is rebuilt from the decoded message of the previous chunk,
+     * and the padding of the last chunk is removed.
+     *
+     * @param in Input channel of the frames.
+     * @param out Output channel of the decoded message.
+     *
+     * @return The number of message bytes decoded.
+     *
+     * @throws IOException If reading or writing fails, or the last frame is truncated.
+     */
+    public long decode(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(4);
+        ByteBuffer frame = ByteBuffer.allocate(0);
+        DecoderWorkspace workspace = this.workspace.get();
+        int s_0 = 0;
+        long total_length = 0;
+        while (readFully(in, header)) {
+            header.flip();
+            int payload_length = header.getInt();
+            header.clear();
+
+            // read symbols of the padded chunk
+            int message_length = (payload_length + this.k - 1) / this.k * this.k;
+            int spine_length = message_length * 8 / this.k;
+            int symbols_length = message_length * this.l * this.c / this.k;
+            if (frame.capacity() < symbols_length) {
+                frame = ByteBuffer.allocate(symbols_length);
+            }
+            frame.clear();
+            frame.limit(symbols_length);
+            if (!readFully(in, frame)) {
+                throw new EOFException("Truncated frame");
+            }
+
+            // decode the chunk with the buffers of the workspace
+            SymbolBuffer buffer = this.toSymbolBuffer(frame.array(), symbols_length, workspace);
+            BeamStore store = this.createStore(spine_length, workspace);
+            DecodeMetrics metrics = this.search(buffer, store, 0, s_0);
+            int[] message_values = workspace.getMessage_values(spine_length);
+            this.traceback(store, this.bestLeaf(store), message_values);
+            this.finishMetrics(metrics);
+            for (int i = 0; i < spine_length; i++) {
+                s_0 = this.expander.hash(s_0, message_values[i]);
+            }
+
+            byte[] message = workspace.getMessage(message_length);
+            this.combineMessages(message_values, spine_length, message, message_length);
+            SpinalEncoder.writeFully(out, ByteBuffer.wrap(message, 0, payload_length));
+            total_length += payload_length;
+        }
+        return total_length;
+    }
+
+    /**
+     * Decode a stream of frames written by SpinalEncoder.encode(InputStream, OutputStream, int).
+     *
+     * @param in Input stream of the frames.
+     * @param out Output stream of the decoded message.
+     *
+     * @return The number of message bytes decoded.
+     *
+     * @throws IOException If reading or writing fails, or the last frame is truncated.
+     */
+    public long decode(InputStream in, OutputStream out) throws IOException {
+        return this.decode(Channels.newChannel(in), Channels.newChannel(out));
+    }
+
+    /**
+     * Fill a buffer from a channel.
+     *
+     * @return False if the channel ended before any byte was read.
+     *
+     * @throws EOFException If the channel ended after part of the buffer was read.
+     */
+    private static boolean readFully(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                if (buffer.position() == 0) {
+                    return false;
+                }
+                throw new EOFException("Truncated frame");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Convert l passes of symbols to the symbol buffer of a workspace.
+     *
+     * @param symbols Array of encoded bytes.
+     * @param length The number of encoded bytes.
+     * @param workspace Workspace holding the buffer.
+     *
+     * @return Symbols grouped by spine value.
+     */
+    private SymbolBuffer toSymbolBuffer(byte[] symbols, int length, DecoderWorkspace workspace) {
+        int[] symbols_int = workspace.getSymbols_int(length * 8 / this.c);
+        int spine_length = this.divideSymbols2int(symbols, length, symbols_int) / this.l;
+        SymbolBuffer buffer = workspace.getBuffer(spine_length);
+        for (int j = 0; j < this.l; j++) {
+            buffer.addPass(j, symbols_int, j * spine_length);
+        }
+        return buffer;
+    }
+
+    /**
+     * Create a beam store able to decode a message.
+     *
+     * @param spine_length The number of spine values of the message.
+     *
+     * @return Empty beam store.
+     */
+    BeamStore createStore(int spine_length) {
+        int depth = Math.min(this.d, spine_length);
+        return new BeamStore(this.k, this.B, depth, spine_length - depth);
+    }
+
+    /**
+     * Reset the beam store of a workspace to decode a message.
+     *
+     * @param spine_length The number of spine values of the message.
+     * @param workspace Workspace holding the store.
+     *
+     * @return Empty beam store.
+     */
+    private BeamStore createStore(int spine_length, DecoderWorkspace workspace) {
+        int depth = Math.min(this.d, spine_length);
+        return workspace.getStore(depth, spine_length - depth);
+    }
+
+    /**
+     * Run the pruning tree search.
+     *
+     * The beam of step i only depends on symbols of spine values before i + d, so a search may be
+     * resumed from the beam of any earlier step kept in the store when only later symbols changed.
+     *
+     * @param buffer Received symbols.
+     * @param store Beam store, holding the beams of steps before first_step from a previous search.
+     * @param first_step The step whose beam is kept (0 to search from the root).
+     * @param s_0 Spine value 0, i.e. the spine value of the root.
+     *
+     * @return Metrics of the search, to be passed to finishMetrics after the traceback (null when disabled).
+     */
+    DecodeMetrics search(SymbolBuffer buffer, BeamStore store, int first_step, int s_0) {
+        int depth = store.getD();
+        int step_count = store.getStep_count();
+        DecodeMetrics metrics = this.startMetrics(buffer.getSpine_length(), first_step);
+
+        /************************ Step 1: build root of tree ***********************/
+
+        // note: the root has spine value s_0 and no message value
+        if (first_step == 0) {
+            store.setBeamNode(0, 0, s_0, 0, -1, 0);
+            store.setBeam_size(0, 1);
+        }
+
+        // expand the beam to depth d
+        store.loadBeamAsFrontier(first_step);
+        for (int i = 0; i < depth; i++) {
+            this.expandFrontier(store, buffer, first_step + i);
+            store.swapFrontier();
+            if (metrics != null) {
+                metrics.addExpansion(store.getFrontier_size());
+            }
+        }
+
+        /************************ Step 2: build pruning tree ***********************/
+
+        int block = 1 << (this.k * depth);
+        for (int i = first_step + 1; i <= step_count; i++) {
+
+            // expand every leaf of the frontier from depth d-1 to depth d
+            this.expandFrontier(store, buffer, i + depth - 1);
+            if (metrics != null) {
+                metrics.addExpansion((long) store.getFrontier_size() << this.k);
+            }
+
+            // compute path_cost of each T' (child of a beam node) as the minimum cost of its new leaves
+            double[] expanded_cost = store.getExpanded_cost();
+            double[] candidate_cost = store.getCandidate_cost();
+            int[] candidate_index = store.getCandidate_index();
+            int candidate_count = store.getFrontier_size() >> (this.k * (depth - 1));
+            for (int j = 0; j < candidate_count; j++) {
+                candidate_cost[j] = this.selectMinCost(expanded_cost, j * block, block);
+            }
+
+            // get B lowest cost candidates and move them into the beam
+            int selected = BeamSelector.select(candidate_cost, candidate_index, candidate_count, this.B);
+            int beam_size = this.adaptBeam(candidate_cost, candidate_index, selected);
+            for (int j = 0; j < beam_size; j++) {
+                int T_apostrophe = candidate_index[j];
+                int parent = T_apostrophe >> this.k;
+                int message_value = T_apostrophe & ((1 << this.k) - 1);
+                int spine_value = this.expander.hash(store.getBeam_spine(i - 1, parent), message_value);
+                double cost = store.getBeam_cost(i - 1, parent) + this.expander.computeLoss(spine_value, buffer, i - 1);
+                store.setBeamNode(i, j, spine_value, cost, parent, message_value);
+                store.keepSubtree(T_apostrophe, j);
+            }
+            store.setBeam_size(i, beam_size);
+            store.setFrontier_size(beam_size * block);
+
+            if (metrics != null) {
+                double best_cost = candidate_cost[candidate_index[0]];
+                double worst_cost = candidate_cost[candidate_index[selected - 1]];
+                metrics.addSelection(beam_size, best_cost, worst_cost);
+                if (this.listener != null) {
+                    this.listener.stepCompleted(i, best_cost, worst_cost - best_cost);
+                    metrics.mark();
+                }
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Adaptive beam width: keep the selected candidates whose cost is within cost_margin of the best one,
+     * and at least min_B of them. A dominant path thus shrinks the beam, and a close race keeps up to B.
+     *
+     * @param candidate_cost Path cost of every candidate.
+     * @param candidate_index Selected candidates, in order of cost.
+     * @param selected The number of selected candidates.
+     *
+     * @return The number of candidates kept in the beam.
+     */
+    private int adaptBeam(double[] candidate_cost, int[] candidate_index, int selected) {
+        if (this.cost_margin == Double.POSITIVE_INFINITY) {
+            return selected;
+        }
+        double limit = candidate_cost[candidate_index[0]] + this.cost_margin;
+        int beam_size = Math.min(this.min_B, selected);
+        while (beam_size < selected && candidate_cost[candidate_index[beam_size]] <= limit) {
+            beam_size++;
+        }
+        return beam_size;
+    }
+
+    /**
+     * Start the metrics of a search when a listener is set or the JFR decode event is enabled.
+     *
+     * @param spine_length The number of spine values of the message.
+     * @param first_step The step the search starts from.
+     *
+     * @return New metrics, or null when nobody observes the decoder.
+     */
+    private DecodeMetrics startMetrics(int spine_length, int first_step) {
+        return DecodeMetrics.start(this.listener, spine_length, this.B, Math.min(this.d, spine_length), first_step);
+    }
+
+    /**
+     * End the metrics of a decoding attempt after the traceback: commit the JFR event and notify the listener.
+     *
+     * @param metrics Metrics returned by search (nothing is done for null).
+     */
+    void finishMetrics(DecodeMetrics metrics) {
+        if (metrics != null) {
+            metrics.complete(this.listener);
+        }
+    }
+
+    /**
+     * Get the lowest cost leaf of the final beam.
+     *
+     * @param store Beam store after a search.
+     *
+     * @return Index of the leaf in the frontier.
+     */
+    int bestLeaf(BeamStore store) {
+        double[] frontier_cost = store.getFrontier_cost();
+        double lowest_path_cost = Double.MAX_VALUE;
+        int best_leaf = 0;
+        for (int i = 0; i < store.getFrontier_size(); i++) {
+            if (frontier_cost[i] < lowest_path_cost) {
+                best_leaf = i;
+                lowest_path_cost = frontier_cost[i];
+            }
+        }
+        return best_leaf;
+    }
+
+    /**
+     * Trace back the message values of the path leading to a leaf of the final beam.
+     *
+     * @param store Beam store after a search.
+     * @param leaf Index of the leaf in the frontier.
+     *
+     * @return Message values in order of spine.
+     */
+    int[] traceback(BeamStore store, int leaf) {
+        int[] message_values = new int[store.getStep_count() + store.getD()];
+        this.traceback(store, leaf, message_values);
+        return message_values;
+    }
+
+    /**
+     * Trace back the message values of the path leading to a leaf of the final beam into an array.
+     *
+     * @param store Beam store after a search.
+     * @param leaf Index of the leaf in the frontier.
+     * @param message_values Array receiving the message values in order of spine.
+     */
+    void traceback(BeamStore store, int leaf, int[] message_values) {
+        int depth = store.getD();
+        int step_count = store.getStep_count();
+        for (int i = 0; i < depth; i++) {
+            message_values[step_count + i] = (leaf >> (this.k * (depth - i - 1))) & ((1 << this.k) - 1);
+        }
+        int slot = leaf >> (this.k * depth);
+        for (int i = step_count; i > 0; i--) {
+            message_values[i - 1] = store.getBeam_message(i, slot);
+            slot = store.getBeam_parent(i, slot);
+        }
+    }
+
+    /**
+     * List decoding: check the L lowest cost paths of the final beam, in order of cost, and keep the
+     * first one accepted by the verifier.
+     *
+     * @param store Beam store after a search.
+     * @param message_length The number of bytes of the message.
+     * @param verifier Check of decoded messages (e.g. CrcVerifier), or null to accept the best path.
+     * @param list_size The number of paths to check (L).
+     *
+     * @return The accepted path, or the lowest cost path with success false.
+     */
+    DecodeResult selectPath(BeamStore store, int message_length, MessageVerifier verifier, int list_size) {
+        int count = verifier == null ? 1 : list_size;
+        int[] leaf_index = store.getLeaf_index();
+        count = BeamSelector.select(store.getFrontier_cost(), leaf_index, store.getFrontier_size(), count);
+        for (int i = 0; i < count; i++) {
+            byte[] message = this.combineMessages(this.traceback(store, leaf_index[i]), message_length);
+            if (verifier == null || verifier.verify(message)) {
+                return new DecodeResult(message, true, store.getFrontier_cost()[leaf_index[i]], i);
+            }
+        }
+        byte[] message = this.combineMessages(this.traceback(store, leaf_index[0]), message_length);
+        return new DecodeResult(message, false, store.getFrontier_cost()[leaf_index[0]], -1);
+    }
+
+    /**
+     * Expand every node of the frontier by one level.
+     *
+     * Children are written at fixed indices, so the frontier can be split among fork-join workers
+     * and the result does not depend on the number of workers.
+     *
+     * @param store Beam store holding the frontier.
+     * @param buffer Received symbols.
+     * @param parent_depth The depth of frontier nodes in the whole pruning tree.
+     */
+    private void expandFrontier(BeamStore store, SymbolBuffer buffer, int parent_depth) {
+        if (this.pool == null || store.getFrontier_size() <= PARALLEL_GRAIN) {
+            this.expandFrontier(store, buffer, parent_depth, 0, store.getFrontier_size());
+        }
+        else {
+            this.pool.invoke(new ExpandTask(store, buffer, parent_depth, 0, store.getFrontier_size()));
+        }
+    }
+
+    /**
+     * Expand a range of nodes of the frontier by one level.
+     *
+     * @param store Beam store holding the frontier.
+     * @param buffer Received symbols.
+     * @param parent_depth The depth of frontier nodes in the whole pruning tree.
+     * @param from Index of the first frontier node (inclusive).
+     * @param to Index of the last frontier node (exclusive).
+     */
+    private void expandFrontier(BeamStore store, SymbolBuffer buffer, int parent_depth, int from, int to) {
+        int[] frontier_spine = store.getFrontier_spine();
+        double[] frontier_cost = store.getFrontier_cost();
+        int[] expanded_spine = store.getExpanded_spine();
+        double[] expanded_cost = store.getExpanded_cost();
+        for (int i = from; i < to; i++) {
+            this.expander.buildChild(frontier_spine[i], frontier_cost[i], buffer, parent_depth,
+                    expanded_spine, expanded_cost, i << this.k);
+        }
+    }
+
+    /**
+     * Fork-join task expanding a range of the frontier.
+     */
+    private class ExpandTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private BeamStore store;
+        private SymbolBuffer buffer;
+        private int parent_depth, from, to;
+
+        ExpandTask(BeamStore store, SymbolBuffer buffer, int parent_depth, int from, int to) {
+            this.store = store;
+            this.buffer = buffer;
+            this.parent_depth = parent_depth;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= PARALLEL_GRAIN) {
+                expandFrontier(this.store, this.buffer, this.parent_depth, this.from, this.to);
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new ExpandTask(this.store, this.buffer, this.parent_depth, this.from, mid),
+                    new ExpandTask(this.store, this.buffer, this.parent_depth, mid, this.to));
+        }
+    }
+
+    /**
+     * Use array of integer to store symbols.
+     *
+     * @param symbols Array of encoded bytes.
+     *
+     * @return Array of int.
+     *
+     * If c = 6, the input symbols would be shown as:
+     *                          [0]0 1 2 3 4 5 | 6 7
+     *                          [1]8 9 10 11 | 12 13 14 15
+     *                          [2]16 17 | 18 19 20 21 22 23
+     * Convert to array of ints:
+     *                          [0]0...0 0 1 2 3 4 5  (32-bits)
+     *                          [1]0...0 6 7 8 9 10 11  (32-bits)
+     *                          [2]0...0 12 13 14 15 16 17  (32-bits)
+     *                          ...
+     */
+    int[] divideSymbols2int(byte[] symbols) {
+        int[] symbols_int = new int[symbols.length * 8 / this.c];
+        this.divideSymbols2int(symbols, symbols.length, symbols_int);
+        return symbols_int;
+    }
+
+    /**
+     * Use a given array of integer to store symbols.
+     *
+     * @param symbols Array of encoded bytes.
+     * @param length The number of encoded bytes.
+     * @param symbols_int Array receiving the symbols.
+     *
+     * @return The number of symbols.
+     */
+    int divideSymbols2int(byte[] symbols, int length, int[] symbols_int) {
+        int symbol_count = length * 8 / this.c;
+        this.symbol_unpacker.unpack(symbols, 0, length, symbols_int, 0, symbol_count);
+        return symbol_count;
+    }
+
+    /**
+     * Convert k-bits message values back into bytes.
+     *
+     * @param message_values Message values in order of spine.
+     * @param length The number of bytes of the decoded message.
+     *
+     * @return Array of bytes.
+     */
+    byte[] combineMessages(int[] message_values, int length) {
+        byte[] decoded_message = new byte[length];
+        this.combineMessages(message_values, message_values.length, decoded_message, length);
+        return decoded_message;
+    }
+
+    /**
+     * Combine message values into a given array.
+     *
+     * @param message_values Array of message values.
+     * @param count The number of message values.
+     * @param decoded_message Array receiving the message.
+     * @param length The number of bytes of the message.
+     */
+    void combineMessages(int[] message_values, int count, byte[] decoded_message, int length) {
+        int written = this.message_packer.pack(message_values, 0, count, decoded_message, 0, length);
+        Arrays.fill(decoded_message, written, length, (byte) 0);
+    }
+
+    /**
+     * Select the minimum cost in a block of leaves.
+     *
+     * @param leaf_cost Path costs of leaves.
+     * @param offset Index of the first leaf of the block.
+     * @param length The number of leaves in the block.
+     *
+     * @return Minimum cost of leaves
+     */
+    private double selectMinCost(double[] leaf_cost, int offset, int length) {
+        double temp_min = Double.MAX_VALUE;
+        for (int i = offset; i < offset + length; i++) {
+            if (leaf_cost[i] < temp_min) {
+                temp_min = leaf_cost[i];
+            }
+        }
+        return temp_min;
+    }
+
+    /**
+     * Getters and setters.
+     */
+    public int getK() {
+        return k;
+    }
+
+    public int getV() {
+        return v;
+    }
+
+    public int getC() {
+        return c;
+    }
+
+    public int getL() {
+        return l;
+    }
+
+    public int getB() {
+        return B;
+    }
+
+    public int getD() {
+        return d;
+    }
+
+    public SpineHash getSpine_hash() {
+        return spine_hash;
+    }
+
+    /**
+     * @param spine_hash Spine hash, which must be the one used by the encoder.
+     */
+    public void setSpine_hash(SpineHash spine_hash) {
+        this.spine_hash = spine_hash;
+        this.updateExpander();
+    }
+
+    public SymbolGenerator getSymbol_generator() {
+        return symbol_generator;
+    }
+
+    /**
+     * @param symbol_generator Symbol generator, which must be the one used by the encoder.
+     */
+    public void setSymbol_generator(SymbolGenerator symbol_generator) {
+        this.symbol_generator = symbol_generator;
+        this.updateExpander();
+    }
+
+    public SymbolMapper getSymbol_mapper() {
+        return symbol_mapper;
+    }
+
+    /**
+     * @param symbol_mapper Mapping of symbols to amplitudes used by soft-decision decoding, PamSymbolMapper by default.
+     */
+    public void setSymbol_mapper(SymbolMapper symbol_mapper) {
+        this.symbol_mapper = symbol_mapper;
+        this.updateExpander();
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Expand the beam with a fork-join pool, which also decodes the frames of decode(byte[][], int[]).
+     * The decoded message is the same as in sequential mode.
+     *
+     * @param pool Fork-join pool (e.g. ForkJoinPool.commonPool()), or null to decode single frames in the calling thread.
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Expand children with the SIMD kernel (VectorChildKernel) when the JVM runs with
+     * --add-modules jdk.incubator.vector. Only hard-decision decoding with Lookup3SpineHash and
+     * LegacySymbolGenerator or CounterSymbolGenerator (c <= 30) is vectorized, when 2^k is a multiple of the
+     * number of lanes; other cases keep the scalar code.
+     * The decoded message is the same as with the scalar code.
+     *
+     * @param vectorized Whether to use the SIMD kernel when it is available.
+     */
+    public void setVectorized(boolean vectorized) {
+        this.vectorized = vectorized;
+        this.updateExpander();
+    }
+
+    /**
+     * @return Whether children are currently expanded by the SIMD kernel.
+     */
+    public boolean isVectorKernel() {
+        return expander.isVector_kernel();
+    }
+
+    /**
+     * Rebuild the expander of children after one of its components changed.
+     */
+    private void updateExpander() {
+        this.expander = new ChildExpander(this.k, this.v_mask, this.c, this.l, this.spine_hash, this.symbol_generator,
+                this.symbol_mapper, this.vectorized);
+    }
+
+    public DecoderListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Observe the decoder. Without a listener and with the JFR event spinal.Decode disabled, no metric is collected.
+     *
+     * @param listener Listener of steps and decoding attempts, or null.
+     */
+    public void setListener(DecoderListener listener) {
+        this.listener = listener;
+    }
+
+    public int getMin_B() {
+        return min_B;
+    }
+
+    /**
+     * @param min_B The smallest beam width of the adaptive mode, 1 by default.
+     */
+    public void setMin_B(int min_B) {
+        this.min_B = Math.max(1, min_B);
+    }
+
+    public double getCost_margin() {
+        return cost_margin;
+    }
+
+    /**
+     * Adaptive beam width. After each step only the candidates within cost_margin of the best one are
+     * kept (at least min_B, at most B), which saves most of the expansion work when one path clearly
+     * dominates. Costs are squared symbol distances divided by l: a wrong path gains about
+     * 2^(2c) / 6 / l per received symbol, so margins of a few times the noise variance per symbol keep
+     * the right path while dropping wrong ones.
+     *
+     * @param cost_margin Cost margin, or Double.POSITIVE_INFINITY (default) for a fixed beam of B.
+     */
+    public void setCost_margin(double cost_margin) {
+        this.cost_margin = cost_margin;
+    }
+}
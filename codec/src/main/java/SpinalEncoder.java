@@ -0,0 +1,395 @@
+/**
+ * Created by SeAxiAoD on 2019/11/13.
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import jdk.jfr.EventType;
+
+public class SpinalEncoder {
+
+    private static final EventType ENCODE_EVENT = EventType.getEventType(EncodeEvent.class);
+
+    private int k, v, c, l;
+    private static int s_0 = 0;
+    private int v_mask = 0;
+    private SpineHash spine_hash;
+    private SymbolGenerator symbol_generator;
+    private boolean append_crc;
+
+    /**
+     * Spinal codes encoder.
+     *
+     * @param k The number of bits for each message piece m. (k need to less than 32)
+     * @param v The number of bits for each spine value s. (v need to less than 32)
+     * @param c The number of bits for each transmitted symbol x_i,j. (c need to less than 32)
+     * @param l The number of passes.
+     *
+     */
+    public SpinalEncoder(int k, int v, int c, int l) {
+        this.k = k;
+        this.v = v;
+        this.c = c;
+        this.l = l;
+        this.spine_hash = new Lookup3SpineHash();
+        this.symbol_generator = new LegacySymbolGenerator(c);
+        this.buildMask();
+    }
+
+    /**
+     * Build mask of v.
+     */
+    private void buildMask() {
+        if(this.v == 32) {
+            this.v_mask = 0xffffffff;
+        }
+        else {
+            this.v_mask = 0;
+            for (int i = 0; i < this.v; i++) {
+                this.v_mask |= 1 << i;
+            }
+        }
+    }
+
+    /**
+     * Generate encoded codes.
+     *
+     * @param message_byte Message_byte for encoding. (message_byte.length/k should be an integer)
+     *
+     * @return Array of encoded bytes.
+     *
+     * For example, if c = 6, the encoded bytes might show as follow,
+     * symbols after encoding: 011001 100110 010010 101001 ...
+     * output in array of bytes: [0]011001 10  (8-bits)
+     *                           [1]0110 0100  (8-bits)
+     *                           [2]10 101001  (8-bits)
+     *                           ...
+     */
+    public byte[] encode(byte[] message_byte) {
+        return this.encode(message_byte, s_0);
+    }
+
+    /**
+     * Generate encoded codes of a spine chain starting from a given spine value.
+     *
+     * @param message_byte Message_byte for encoding. (message_byte.length/k should be an integer)
+     * @param s_0 Spine value 0.
+     *
+     * @return Array of encoded bytes.
+     */
+    public byte[] encode(byte[] message_byte, int s_0) {
+        if (!ENCODE_EVENT.isEnabled()) {
+            return this.generateSymbols(this.buildSpineValues(this.checkMessage(message_byte), s_0));
+        }
+        EncodeEvent event = new EncodeEvent();
+        event.begin();
+        byte[] symbols = this.generateSymbols(this.buildSpineValues(this.checkMessage(message_byte), s_0));
+        if (event.shouldCommit()) {
+            event.message_length = message_byte.length;
+            event.symbols_length = symbols.length;
+            event.l = this.l;
+            event.commit();
+        }
+        return symbols;
+    }
+
+    /**
+     * Encode a stream in chunks, in bounded memory.
+     *
+     * Chunks form one spine chain: the first spine value of a chunk is built from the last one of the
+     * previous chunk. Each chunk is written as a frame:
+     *     [payload length (4 bytes, big-endian)][symbols of l passes of the payload padded with '\0']
+     * so padding is explicit and the decoder can remove it.
+     *
+     * @param in Input channel of the message.
+     * @param out Output channel of the frames.
+     * @param chunk_length The number of message bytes of a chunk (rounded up to a multiple of k).
+     *
+     * @return The number of message bytes encoded.
+     *
+     * @throws IOException If reading or writing fails.
+     */
+    public long encode(ReadableByteChannel in, WritableByteChannel out, int chunk_length) throws IOException {
+        chunk_length = (chunk_length + this.k - 1) / this.k * this.k;
+        ByteBuffer chunk = ByteBuffer.allocate(chunk_length);
+        ByteBuffer header = ByteBuffer.allocate(4);
+        int last_spine_value = s_0;
+        long total_length = 0;
+        while (true) {
+
+            // read a full chunk, or the rest of the stream
+            chunk.clear();
+            int read = 0;
+            while (chunk.hasRemaining() && read >= 0) {
+                read = in.read(chunk);
+            }
+            int payload_length = chunk.position();
+            if (payload_length == 0) {
+                break;
+            }
+            total_length += payload_length;
+
+            // encode the chunk, continuing the spine chain
+            int[] spine_values = this.buildSpineValues(Arrays.copyOf(chunk.array(), payload_length), last_spine_value);
+            last_spine_value = spine_values[spine_values.length - 1];
+            header.clear();
+            header.putInt(payload_length);
+            header.flip();
+            writeFully(out, header);
+            writeFully(out, ByteBuffer.wrap(this.generateSymbols(spine_values)));
+
+            if (payload_length < chunk_length) {
+                break;
+            }
+        }
+        return total_length;
+    }
+
+    /**
+     * Encode a stream in chunks, in bounded memory.
+     *
+     * @param in Input stream of the message.
+     * @param out Output stream of the frames.
+     * @param chunk_length The number of message bytes of a chunk (rounded up to a multiple of k).
+     *
+     * @return The number of message bytes encoded.
+     *
+     * @throws IOException If reading or writing fails.
+     */
+    public long encode(InputStream in, OutputStream out, int chunk_length) throws IOException {
+        return this.encode(Channels.newChannel(in), Channels.newChannel(out), chunk_length);
+    }
+
+    /**
+     * Write a buffer entirely.
+     */
+    static void writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Generate l passes of symbols.
+     *
+     * @param spine_values Spine values of the message.
+     *
+     * @return Array of encoded bytes.
+     */
+    private byte[] generateSymbols(int[] spine_values) {
+        return new EncoderSession(spine_values, this.symbol_generator, this.c).passes(0, this.l);
+    }
+
+    /**
+     * Hash the spine chain of a message once, for symbols of any pass to be generated later.
+     *
+     * @param message_byte Message_byte for encoding. (message_byte.length/k should be an integer)
+     *
+     * @return Encoder session of the message.
+     */
+    public EncoderSession session(byte[] message_byte) {
+        return this.session(message_byte, s_0);
+    }
+
+    /**
+     * Hash the spine chain of a message once, starting from a given spine value.
+     *
+     * @param message_byte Message_byte for encoding. (message_byte.length/k should be an integer)
+     * @param s_0 Spine value 0.
+     *
+     * @return Encoder session of the message.
+     */
+    public EncoderSession session(byte[] message_byte, int s_0) {
+        return new EncoderSession(this.buildSpineValues(this.checkMessage(message_byte), s_0), this.symbol_generator, this.c);
+    }
+
+    /**
+     * Generate a lazy stream of symbols, in the order of a puncturing schedule.
+     *
+     * @param message_byte Message_byte for encoding. (message_byte.length/k should be an integer)
+     * @param schedule Puncturing schedule, e.g. StridedPuncturingSchedule.
+     *
+     * @return Rateless symbol stream.
+     */
+    public SymbolStream symbolStream(byte[] message_byte, PuncturingSchedule schedule) {
+        return this.session(message_byte).stream(schedule);
+    }
+
+    /**
+     * Append the CRC when enabled.
+     *
+     * @param message_byte Message_byte for encoding.
+     *
+     * @return Message to encode.
+     */
+    private byte[] checkMessage(byte[] message_byte) {
+        return this.append_crc ? CrcVerifier.appendCrc(message_byte, this.k) : message_byte;
+    }
+
+    /**
+     * @param message_length The number of bytes of a message.
+     *
+     * @return The number of bytes actually encoded for the message (with padding and CRC).
+     */
+    public int getEncoded_length(int message_length) {
+        if (this.append_crc) {
+            return CrcVerifier.getLength(message_length, this.k);
+        }
+        return (message_length + this.k - 1) / this.k * this.k;
+    }
+
+    /**
+     * Build spine values of a message.
+     *
+     * @param message_byte Message_byte for encoding. (padded with '\0' when message_byte.length/k is not an integer)
+     * @param s_0 Spine value 0.
+     *
+     * @return Array of spine values.
+     */
+    private int[] buildSpineValues(byte[] message_byte, int s_0) {
+
+        // judge whether len(M)*l*c/k is an integer, and add '\0'.
+        int message_length_reminder = message_byte.length % this.k;
+        if(message_length_reminder != 0) {
+            message_byte = Arrays.copyOf(message_byte, message_byte.length + this.k - message_length_reminder);
+        }
+
+        // divide message by k-bits and use array of int to store the results
+        int[] divided_messages = this.divideMessage(message_byte);
+
+        // build spine values
+        int[] spine_values = new int[divided_messages.length];
+        this.buildSpineValues(s_0, spine_values, divided_messages);
+        return spine_values;
+    }
+
+    /**
+     * Generate encoded codes.
+     *
+     * @param message_bytes Message bytes for division.
+     *
+     * @return Array of int.
+     *
+     * At first, the string would be converted into 8-bits bytes, shown as:
+     * (utilized sequence number to denote binary value 0 or 1 for convenient understanding)
+     *                          [0]0 1 2 3 4 5 6 7
+     *                          [1]8 9 10 11 12 13 14 15
+     *                          [2]16 17 18 19 ...
+     * For example, if k = 6, the divided ints might show as follow,
+     * output in array of ints: [0]0...0 0 1 2 3 4 5  (32-bits)
+     *                          [1]0...0 6 7 8 9 10 11  (32-bits)
+     *                          [2]0...0 12 13 14 15 16 17  (32-bits)
+     *                          ...
+     */
+    private int[] divideMessage(byte[] message_bytes) {
+        return new BitUnpacker(this.k).unpack(message_bytes);
+    }
+
+    /**
+     * Build spine values.
+     *
+     * @param s_0 Spine value 0.
+     * @param spine_values Integer array receiving spine values.
+     * @param divided_messages Integer array of divided_messages.
+     */
+    private void buildSpineValues(int s_0, int[] spine_values, int[] divided_messages) {
+        if (spine_values.length == 0) {
+            return;
+        }
+
+        // built spine value 1
+        spine_values[0] = this.spine_hash.hash(s_0, divided_messages[0]) & this.v_mask;
+
+        // built spine value 2 -> divided_messages.length
+        for (int i = 1; i < spine_values.length; i++) {
+            spine_values[i] = this.spine_hash.hash(spine_values[i-1], divided_messages[i]) & this.v_mask;
+        }
+    }
+
+    /**
+     * Getters and setters.
+     */
+    public int getK() {
+        return k;
+    }
+
+    public void setK(int k) {
+        this.k = k;
+    }
+
+    public int getV() {
+        return v;
+    }
+
+    public void setV(int v) {
+        this.v = v;
+        this.buildMask();
+    }
+
+    public int getC() {
+        return c;
+    }
+
+    /**
+     * @param c The number of bits for each transmitted symbol. The symbol generator is reset to
+     *          LegacySymbolGenerator(c), set another one after this.
+     */
+    public void setC(int c) {
+        this.c = c;
+        this.symbol_generator = new LegacySymbolGenerator(c);
+    }
+
+    public int getL() {
+        return l;
+    }
+
+    public void setL(int l) {
+        this.l = l;
+    }
+
+    public SpineHash getSpine_hash() {
+        return spine_hash;
+    }
+
+    /**
+     * Select the hash family used to build spine values. Encoder and decoder must use the same one.
+     *
+     * @param spine_hash Spine hash, Lookup3SpineHash by default.
+     */
+    public void setSpine_hash(SpineHash spine_hash) {
+        this.spine_hash = spine_hash;
+    }
+
+    public SymbolGenerator getSymbol_generator() {
+        return symbol_generator;
+    }
+
+    /**
+     * Select the generator of symbols. Encoder and decoder must use the same one.
+     *
+     * @param symbol_generator Symbol generator, LegacySymbolGenerator by default.
+     */
+    public void setSymbol_generator(SymbolGenerator symbol_generator) {
+        this.symbol_generator = symbol_generator;
+    }
+
+    public boolean isAppend_crc() {
+        return append_crc;
+    }
+
+    /**
+     * Append a CRC-32 to messages given to encode(byte[]) and symbolStream(), so that the decoder
+     * can check its result with CrcVerifier. Chunks of the stream encoder are not checked.
+     *
+     * @param append_crc Whether to append the CRC.
+     */
+    public void setAppend_crc(boolean append_crc) {
+        this.append_crc = append_crc;
+    }
+}
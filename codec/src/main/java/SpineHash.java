@@ -0,0 +1,17 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Hash function used to build spine values, s_i = h(s_i-1, m_i).
+ */
+
+public interface SpineHash {
+
+    /**
+     * Hash a spine value together with a message piece.
+     *
+     * @param spine The previous spine value s_i-1.
+     * @param message The message piece m_i (k bits).
+     *
+     * @return A 32-bit hash value, masked to v bits by the caller.
+     */
+    int hash(int spine, int message);
+}
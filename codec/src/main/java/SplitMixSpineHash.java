@@ -0,0 +1,19 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * SplitMix64 finalizer over the packed (spine, message) pair.
+ */
+
+public class SplitMixSpineHash implements SpineHash {
+
+    /**
+     * One 64-bit multiply-xorshift mix, the cheapest of the provided hashes.
+     * Not compatible with symbols encoded by lookup3.
+     */
+    @Override
+    public int hash(int spine, int message) {
+        long z = (((long) spine) << 32 | (message & 0xFFFFFFFFL)) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (z ^ (z >>> 31));
+    }
+}
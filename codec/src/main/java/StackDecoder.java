@@ -0,0 +1,384 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Sequential (stack) decoder of spinal codes, exploring the most promising path first.
+ */
+
+public class StackDecoder implements Decoder {
+
+    private int k, v, c, l;
+    private int v_mask;
+    private double bias;
+    private long max_nodes;
+    private SpineHash spine_hash;
+    private SymbolGenerator symbol_generator;
+    private SymbolMapper symbol_mapper;
+    private boolean vectorized;
+    private ChildExpander expander; // hash, symbols and path costs of children, shared with SpinalDecoder
+    private BitUnpacker symbol_unpacker;
+    private BitPacker message_packer;
+    private ThreadLocal<StackStore> store; // stack of each thread calling decode
+    private DecoderListener listener;
+
+    /**
+     * Stack decoder.
+     *
+     * Instead of keeping B paths per step, the decoder keeps every explored node in a priority queue and
+     * always expands the one of lowest metric, i.e. its path cost minus a bias per received symbol
+     * (Fano metric). The right path gains less than the bias per symbol and stays on top, wrong paths
+     * gain more and sink, so on a good link about one path is expanded: 2^k children per spine value
+     * instead of B * 2^k. Noisy frames explore more nodes, up to the node budget.
+     *
+     * @param k The number of bits for each message piece m. (k need to less than 32)
+     * @param v The number of bits for each spine value s. (v need to less than 32)
+     * @param c The number of bits for each transmitted symbol x_i,j. (c need to less than 32)
+     * @param l The number of passes.
+     *
+     */
+    public StackDecoder(int k, int v, int c, int l) {
+        this.k = k;
+        this.v = v;
+        this.c = c;
+        this.l = l;
+        this.v_mask = v == 32 ? 0xffffffff : (1 << v) - 1;
+        this.bias = Math.pow(2, 2 * c) / 192;
+        this.max_nodes = 1 << 18;
+        this.spine_hash = new Lookup3SpineHash();
+        this.symbol_generator = new LegacySymbolGenerator(c);
+        this.symbol_mapper = new PamSymbolMapper(c);
+        this.symbol_unpacker = new BitUnpacker(c);
+        this.message_packer = new BitPacker(k);
+        this.store = ThreadLocal.withInitial(() -> new StackStore(this.k));
+        this.updateExpander();
+    }
+
+    /**
+     * Decode symbols.
+     *
+     * @param symbols Array of encoded bytes.
+     *
+     * @return String of message for encoding.
+     */
+    @Override
+    public byte[] decode(byte[] symbols) {
+        return this.decode(symbols, 0);
+    }
+
+    /**
+     * Decode symbols of a spine chain starting from a given spine value.
+     *
+     * @param symbols Array of encoded bytes.
+     * @param s_0 Spine value 0, the one used by the encoder.
+     *
+     * @return String of message for encoding.
+     */
+    @Override
+    public byte[] decode(byte[] symbols, int s_0) {
+        int[] symbols_int = this.symbol_unpacker.unpack(symbols);
+        int spine_length = symbols_int.length / this.l;
+        SymbolBuffer buffer = new SymbolBuffer(spine_length, this.l);
+        for (int j = 0; j < this.l; j++) {
+            buffer.addPass(j, symbols_int, j * spine_length);
+        }
+
+        int[] message_values = new int[spine_length];
+        this.search(buffer, s_0, message_values);
+        int length = symbols.length / this.l * this.k / this.c;
+        byte[] message = new byte[length];
+        this.message_packer.pack(message_values, 0, spine_length, message, 0, length);
+        return message;
+    }
+
+    /**
+     * Soft-decision decoding of received amplitudes, scored by Euclidean distance to the amplitudes
+     * of candidate symbols given by the symbol mapper.
+     *
+     * @param samples Received amplitudes of l passes, in the same order as the encoded symbols.
+     *
+     * @return String of message for encoding.
+     */
+    public byte[] decode(float[] samples) {
+        return this.decode(samples, 0);
+    }
+
+    /**
+     * Soft-decision decoding of received amplitudes of a spine chain starting from a given spine value.
+     *
+     * @param samples Received amplitudes of l passes, in the same order as the encoded symbols.
+     * @param s_0 Spine value 0, the one used by the encoder.
+     *
+     * @return String of message for encoding.
+     */
+    public byte[] decode(float[] samples, int s_0) {
+        int spine_length = samples.length / this.l;
+        SymbolBuffer buffer = new SymbolBuffer(spine_length, this.l);
+        for (int j = 0; j < this.l; j++) {
+            for (int i = 0; i < spine_length; i++) {
+                buffer.addSample(i, j, samples[j * spine_length + i]);
+            }
+        }
+
+        int[] message_values = new int[spine_length];
+        this.search(buffer, s_0, message_values);
+        byte[] message = new byte[spine_length * this.k / 8];
+        this.message_packer.pack(message_values, 0, spine_length, message, 0, message.length);
+        return message;
+    }
+
+    /**
+     * Run the stack search over received symbols, which may hold any subset of passes per spine value.
+     *
+     * When the node budget runs out, the deepest node found (lowest cost among the deepest) is completed
+     * greedily, one lowest cost child per spine value, so a message is always returned.
+     *
+     * @param buffer Received symbols, or soft samples.
+     * @param s_0 Spine value 0, the one used by the encoder.
+     * @param message_values Array receiving the message values in order of spine.
+     *
+     * @return Whether a full path was found within the node budget.
+     */
+    boolean search(SymbolBuffer buffer, int s_0, int[] message_values) {
+        int spine_length = buffer.getSpine_length();
+        StackStore store = this.store.get();
+        int[] child_spine = store.getChild_spine();
+        double[] child_cost = store.getChild_cost();
+        ChildExpander expander = this.expander;
+        DecodeMetrics metrics = DecodeMetrics.start(this.listener, spine_length, 0, 0, 0); // no beam
+
+        // the bias is in squared symbol steps, soft samples are scored in squared amplitudes
+        double bias = this.bias;
+        if (buffer.isSoft()) {
+            double step = this.symbol_mapper.amplitude(1) - this.symbol_mapper.amplitude(0);
+            bias *= step * step;
+        }
+
+        /************************ Step 1: best-first search ***********************/
+
+        store.reset();
+        int deepest = store.push(s_0, 0, 0, -1, 0, 0);
+        long expanded_nodes = 0;
+        while (!store.isEmpty()) {
+            int node = store.pop();
+            int depth = store.getDepth(node);
+            if (metrics != null) {
+                double gap = store.isEmpty() ? 0 : store.getMetric(store.peek()) - store.getMetric(node);
+                this.countStep(metrics, depth, store.getCost(node), gap);
+            }
+            if (depth == spine_length) {
+                this.traceback(store, node, message_values);
+                this.finishMetrics(metrics);
+                return true;
+            }
+            if (expanded_nodes + (1 << this.k) > this.max_nodes) {
+                break;
+            }
+
+            // push every child, with the bias of the symbols received for its spine value
+            double cost = store.getCost(node);
+            double metric = store.getMetric(node) - cost - bias * buffer.getCount(depth) / this.l;
+            expander.buildChild(store.getSpine(node), cost, buffer, depth, child_spine, child_cost, 0);
+            expanded_nodes += 1 << this.k;
+            if (metrics != null) {
+                metrics.addExpansion(1 << this.k);
+            }
+            for (int i = 0; i < (1 << this.k); i++) {
+                int child = store.push(child_spine[i], child_cost[i], metric + child_cost[i], node, i, depth + 1);
+                if (depth + 1 > store.getDepth(deepest)
+                        || (depth + 1 == store.getDepth(deepest) && child_cost[i] < store.getCost(deepest))) {
+                    deepest = child;
+                }
+            }
+        }
+
+        /************************ Step 2: complete the deepest path ***********************/
+
+        this.traceback(store, deepest, message_values);
+        int spine_value = store.getSpine(deepest);
+        double cost = store.getCost(deepest);
+        for (int depth = store.getDepth(deepest); depth < spine_length; depth++) {
+            expander.buildChild(spine_value, cost, buffer, depth, child_spine, child_cost, 0);
+            int best = 0;
+            for (int i = 1; i < (1 << this.k); i++) {
+                if (child_cost[i] < child_cost[best]) {
+                    best = i;
+                }
+            }
+            message_values[depth] = best;
+            spine_value = child_spine[best];
+            cost = child_cost[best];
+            if (metrics != null) {
+                metrics.addExpansion(1 << this.k);
+                this.countStep(metrics, depth + 1, cost, 0);
+            }
+        }
+        this.finishMetrics(metrics);
+        return false;
+    }
+
+    /**
+     * Trace back the message values of the path leading to a node.
+     *
+     * @param store Stack after a search.
+     * @param node Id of the node.
+     * @param message_values Array receiving the message values in order of spine.
+     */
+    private void traceback(StackStore store, int node, int[] message_values) {
+        for (int i = node; store.getParent(i) >= 0; i = store.getParent(i)) {
+            message_values[store.getDepth(i) - 1] = store.getMessage(i);
+        }
+    }
+
+    /**
+     * Count a step of the search and notify the listener.
+     *
+     * @param metrics Metrics of the search.
+     * @param depth The depth of the node.
+     * @param cost Path cost of the node.
+     * @param metric_gap Metric of the next node of the stack minus the metric of the node.
+     */
+    private void countStep(DecodeMetrics metrics, int depth, double cost, double metric_gap) {
+        metrics.addStackStep(cost, metric_gap);
+        if (this.listener != null) {
+            this.listener.stepCompleted(depth, cost, metric_gap);
+            metrics.mark();
+        }
+    }
+
+    /**
+     * End the metrics of a search: commit the JFR event and notify the listener.
+     *
+     * @param metrics Metrics of the search (nothing is done for null).
+     */
+    private void finishMetrics(DecodeMetrics metrics) {
+        if (metrics != null) {
+            metrics.complete(this.listener);
+        }
+    }
+
+    /**
+     * Rebuild the expander of children after one of its components changed.
+     */
+    private void updateExpander() {
+        this.expander = new ChildExpander(this.k, this.v_mask, this.c, this.l, this.spine_hash, this.symbol_generator,
+                this.symbol_mapper, this.vectorized);
+    }
+
+    /**
+     * Getters and setters.
+     */
+    @Override
+    public int getK() {
+        return k;
+    }
+
+    @Override
+    public int getV() {
+        return v;
+    }
+
+    @Override
+    public int getC() {
+        return c;
+    }
+
+    @Override
+    public int getL() {
+        return l;
+    }
+
+    public double getBias() {
+        return bias;
+    }
+
+    /**
+     * Bias of the metric, per received symbol, in squared symbol steps. It must be above the noise variance,
+     * or the right path sinks and the search backtracks until the budget runs out, and well below the mean
+     * squared error of a wrong path (about 2^(2c) / 6), since the best of the 2^k wrong children is much
+     * closer than the mean. The default 2^(2c) / 192 suits noise up to about a sixteenth of the symbol range.
+     *
+     * @param bias Bias per received symbol.
+     */
+    public void setBias(double bias) {
+        this.bias = bias;
+    }
+
+    public long getMax_nodes() {
+        return max_nodes;
+    }
+
+    /**
+     * @param max_nodes The number of children a search may build before the deepest path is completed greedily, 2^18 by default.
+     */
+    public void setMax_nodes(long max_nodes) {
+        this.max_nodes = max_nodes;
+    }
+
+    public SpineHash getSpine_hash() {
+        return spine_hash;
+    }
+
+    /**
+     * @param spine_hash Spine hash, which must be the one used by the encoder.
+     */
+    public void setSpine_hash(SpineHash spine_hash) {
+        this.spine_hash = spine_hash;
+        this.updateExpander();
+    }
+
+    public SymbolGenerator getSymbol_generator() {
+        return symbol_generator;
+    }
+
+    /**
+     * @param symbol_generator Symbol generator, which must be the one used by the encoder.
+     */
+    public void setSymbol_generator(SymbolGenerator symbol_generator) {
+        this.symbol_generator = symbol_generator;
+        this.updateExpander();
+    }
+
+    public SymbolMapper getSymbol_mapper() {
+        return symbol_mapper;
+    }
+
+    /**
+     * @param symbol_mapper Mapping of symbols to amplitudes used by soft-decision decoding, PamSymbolMapper by default.
+     */
+    public void setSymbol_mapper(SymbolMapper symbol_mapper) {
+        this.symbol_mapper = symbol_mapper;
+        this.updateExpander();
+    }
+
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Expand children with the SIMD kernel of SpinalDecoder.setVectorized, on the same conditions.
+     *
+     * @param vectorized Whether to use the SIMD kernel when it is available.
+     */
+    public void setVectorized(boolean vectorized) {
+        this.vectorized = vectorized;
+        this.updateExpander();
+    }
+
+    /**
+     * @return Whether children are currently expanded by the SIMD kernel.
+     */
+    public boolean isVectorKernel() {
+        return expander.isVector_kernel();
+    }
+
+    public DecoderListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Observe the decoder. Without a listener and with the JFR event spinal.Decode disabled, no metric is collected.
+     *
+     * @param listener Listener of steps and decoding attempts, or null.
+     */
+    public void setListener(DecoderListener listener) {
+        this.listener = listener;
+    }
+}
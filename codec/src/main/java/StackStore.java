@@ -0,0 +1,185 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Node pool and priority queue of the paths explored by StackDecoder.
+ */
+
+import java.util.Arrays;
+
+public class StackStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // explored nodes, indexed by node id
+    private int[] node_spine;
+    private double[] node_cost;
+    private double[] node_metric;
+    private int[] node_parent;
+    private int[] node_message;
+    private int[] node_depth;
+    private int node_count;
+
+    // binary min-heap of node ids, ordered by (metric, id)
+    private int[] heap;
+    private int heap_size;
+
+    // children of the node being expanded
+    private int[] child_spine;
+    private double[] child_cost;
+
+    /**
+     * Struct-of-arrays stack of a sequential decoder. Nodes are never removed during a search, so a node id
+     * is enough to trace a path back to the root. Arrays grow on demand and are kept by reset.
+     *
+     * @param k The number of bits for each message piece m.
+     *
+     */
+    public StackStore(int k) {
+        this.node_spine = new int[INITIAL_CAPACITY];
+        this.node_cost = new double[INITIAL_CAPACITY];
+        this.node_metric = new double[INITIAL_CAPACITY];
+        this.node_parent = new int[INITIAL_CAPACITY];
+        this.node_message = new int[INITIAL_CAPACITY];
+        this.node_depth = new int[INITIAL_CAPACITY];
+        this.heap = new int[INITIAL_CAPACITY];
+        this.child_spine = new int[1 << k];
+        this.child_cost = new double[1 << k];
+    }
+
+    /**
+     * Remove all nodes, keeping the arrays.
+     */
+    public void reset() {
+        this.node_count = 0;
+        this.heap_size = 0;
+    }
+
+    /**
+     * Add a node and push it onto the stack.
+     *
+     * @param spine_value Spine value of the node.
+     * @param cost Path cost of the node.
+     * @param metric Biased path cost deciding the order of exploration.
+     * @param parent Id of the parent node (-1 for the root).
+     * @param message_value Message value leading from the parent to the node.
+     * @param depth The depth of the node in the whole tree.
+     *
+     * @return Id of the node.
+     */
+    public int push(int spine_value, double cost, double metric, int parent, int message_value, int depth) {
+        int id = this.node_count;
+        if (id == this.node_spine.length) {
+            int capacity = 2 * id;
+            this.node_spine = Arrays.copyOf(this.node_spine, capacity);
+            this.node_cost = Arrays.copyOf(this.node_cost, capacity);
+            this.node_metric = Arrays.copyOf(this.node_metric, capacity);
+            this.node_parent = Arrays.copyOf(this.node_parent, capacity);
+            this.node_message = Arrays.copyOf(this.node_message, capacity);
+            this.node_depth = Arrays.copyOf(this.node_depth, capacity);
+            this.heap = Arrays.copyOf(this.heap, capacity);
+        }
+        this.node_spine[id] = spine_value;
+        this.node_cost[id] = cost;
+        this.node_metric[id] = metric;
+        this.node_parent[id] = parent;
+        this.node_message[id] = message_value;
+        this.node_depth[id] = depth;
+        this.node_count = id + 1;
+
+        // sift up
+        int i = this.heap_size++;
+        while (i > 0) {
+            int up = (i - 1) >> 1;
+            if (!this.less(id, this.heap[up])) {
+                break;
+            }
+            this.heap[i] = this.heap[up];
+            i = up;
+        }
+        this.heap[i] = id;
+        return id;
+    }
+
+    /**
+     * Remove the node of lowest metric from the stack.
+     *
+     * @return Id of the node, which stays valid until reset.
+     */
+    public int pop() {
+        int top = this.heap[0];
+        int last = this.heap[--this.heap_size];
+
+        // sift down
+        int i = 0;
+        int half = this.heap_size >> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < this.heap_size && this.less(this.heap[child + 1], this.heap[child])) {
+                child++;
+            }
+            if (!this.less(this.heap[child], last)) {
+                break;
+            }
+            this.heap[i] = this.heap[child];
+            i = child;
+        }
+        this.heap[i] = last;
+        return top;
+    }
+
+    /**
+     * @return Id of the node of lowest metric, left on the stack (the stack must not be empty).
+     */
+    public int peek() {
+        return this.heap[0];
+    }
+
+    /**
+     * Order of nodes: lower metric first, ties to the older node.
+     */
+    private boolean less(int a, int b) {
+        return this.node_metric[a] < this.node_metric[b] || (this.node_metric[a] == this.node_metric[b] && a < b);
+    }
+
+    /**
+     * Getters.
+     */
+    public boolean isEmpty() {
+        return heap_size == 0;
+    }
+
+    public int getNode_count() {
+        return node_count;
+    }
+
+    public int getSpine(int id) {
+        return node_spine[id];
+    }
+
+    public double getCost(int id) {
+        return node_cost[id];
+    }
+
+    public double getMetric(int id) {
+        return node_metric[id];
+    }
+
+    public int getParent(int id) {
+        return node_parent[id];
+    }
+
+    public int getMessage(int id) {
+        return node_message[id];
+    }
+
+    public int getDepth(int id) {
+        return node_depth[id];
+    }
+
+    public int[] getChild_spine() {
+        return child_spine;
+    }
+
+    public double[] getChild_cost() {
+        return child_cost;
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Strided puncturing of the spinal codes paper.
+ */
+
+public class StridedPuncturingSchedule implements PuncturingSchedule {
+
+    private int ways;
+    private int ways_bits;
+
+    /**
+     * Strided puncturing schedule. Each pass is split into `ways` sub-passes; sub-pass g sends the
+     * spine values whose index is congruent to bit-reverse(ways - 1 - g) modulo `ways`, e.g.
+     * 7, 3, 5, 1, 6, 2, 4, 0 for 8 ways. The last spine value is sent in every sub-pass, since
+     * the decoder has no later symbols to correct its last decisions.
+     *
+     * @param ways The number of sub-passes of each pass (a power of 2).
+     *
+     */
+    public StridedPuncturingSchedule(int ways) {
+        if (ways <= 0 || (ways & (ways - 1)) != 0) {
+            throw new IllegalArgumentException("ways must be a power of 2");
+        }
+        this.ways = ways;
+        this.ways_bits = Integer.numberOfTrailingZeros(ways);
+    }
+
+    /**
+     * 8-way strided puncturing schedule.
+     */
+    public StridedPuncturingSchedule() {
+        this(8);
+    }
+
+    @Override
+    public int getPeriod() {
+        return this.ways;
+    }
+
+    @Override
+    public int[] getSubpass(int subpass, int spine_length) {
+        int residue = this.ways_bits == 0 ? 0
+                : Integer.reverse(this.ways - 1 - subpass) >>> (32 - this.ways_bits);
+        int count = residue < spine_length ? (spine_length - 1 - residue) / this.ways + 1 : 0;
+        boolean add_tail = spine_length > 0 && (spine_length - 1) % this.ways != residue;
+        int[] spine_indices = new int[add_tail ? count + 1 : count];
+        for (int i = 0; i < count; i++) {
+            spine_indices[i] = residue + i * this.ways;
+        }
+        if (add_tail) {
+            spine_indices[count] = spine_length - 1;
+        }
+        return spine_indices;
+    }
+
+    /**
+     * Getters.
+     */
+    public int getWays() {
+        return ways;
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Received symbols grouped by spine value.
+ */
+
+import java.util.Arrays;
+
+public class SymbolBuffer {
+
+    private int spine_length;
+    private int[] count;
+    private int[][] passes;
+    private int[][] values;
+    private float[][] samples; // soft values, only for buffers filled by addSample
+    private boolean soft;
+
+    /**
+     * Buffer of received symbols. Any subset of passes may be received for each spine value,
+     * which is what puncturing and incremental decoding need.
+     *
+     * @param spine_length The number of spine values of the message.
+     * @param capacity The number of symbols expected per spine value (grows when exceeded).
+     *
+     */
+    public SymbolBuffer(int spine_length, int capacity) {
+        this.spine_length = spine_length;
+        this.count = new int[spine_length];
+        this.passes = new int[spine_length][Math.max(capacity, 1)];
+        this.values = new int[spine_length][Math.max(capacity, 1)];
+    }
+
+    /**
+     * Add a received symbol.
+     *
+     * @param spine_index Index of the spine value.
+     * @param pass The pass of the symbol.
+     * @param value The received symbol (c bits).
+     */
+    public void add(int spine_index, int pass, int value) {
+        int n = this.count[spine_index];
+        if (n == this.passes[spine_index].length) {
+            this.passes[spine_index] = Arrays.copyOf(this.passes[spine_index], 2 * n);
+            this.values[spine_index] = Arrays.copyOf(this.values[spine_index], 2 * n);
+        }
+        this.passes[spine_index][n] = pass;
+        this.values[spine_index][n] = value;
+        this.count[spine_index] = n + 1;
+    }
+
+    /**
+     * Add a received soft sample (real-valued amplitude) instead of a hard symbol.
+     * A buffer holds either symbols or samples.
+     *
+     * @param spine_index Index of the spine value.
+     * @param pass The pass of the sample.
+     * @param sample The received amplitude.
+     */
+    public void addSample(int spine_index, int pass, float sample) {
+        if (this.samples == null) {
+            this.samples = new float[this.passes.length][];
+            for (int i = 0; i < this.passes.length; i++) {
+                this.samples[i] = new float[this.passes[i].length];
+            }
+        }
+        int n = this.count[spine_index];
+        if (n == this.passes[spine_index].length) {
+            this.passes[spine_index] = Arrays.copyOf(this.passes[spine_index], 2 * n);
+            this.values[spine_index] = Arrays.copyOf(this.values[spine_index], 2 * n);
+        }
+        if (n >= this.samples[spine_index].length) {
+            this.samples[spine_index] = Arrays.copyOf(this.samples[spine_index], this.passes[spine_index].length);
+        }
+        this.soft = true;
+        this.passes[spine_index][n] = pass;
+        this.samples[spine_index][n] = sample;
+        this.count[spine_index] = n + 1;
+    }
+
+    /**
+     * Add a full pass, one symbol per spine value.
+     *
+     * @param pass The pass of the symbols.
+     * @param symbols_int Symbols of integer format, in order of spine.
+     * @param offset Index of the symbol of the first spine value.
+     */
+    public void addPass(int pass, int[] symbols_int, int offset) {
+        for (int i = 0; i < this.spine_length; i++) {
+            this.add(i, pass, symbols_int[offset + i]);
+        }
+    }
+
+    /**
+     * Remove all received symbols.
+     */
+    public void clear() {
+        Arrays.fill(this.count, 0);
+    }
+
+    /**
+     * Reuse the buffer for another message, keeping the arrays of the spine values it already has.
+     *
+     * @param spine_length The number of spine values of the message.
+     */
+    public void reset(int spine_length) {
+        if (spine_length > this.passes.length) {
+            int capacity = this.passes.length == 0 ? 1 : this.passes[0].length;
+            this.count = new int[spine_length];
+            this.passes = Arrays.copyOf(this.passes, spine_length);
+            this.values = Arrays.copyOf(this.values, spine_length);
+            for (int i = 0; i < spine_length; i++) {
+                if (this.passes[i] == null) {
+                    this.passes[i] = new int[capacity];
+                    this.values[i] = new int[capacity];
+                }
+            }
+            this.samples = null;
+        }
+        this.spine_length = spine_length;
+        this.soft = false;
+        Arrays.fill(this.count, 0);
+    }
+
+    /**
+     * Getters.
+     */
+    public int getSpine_length() {
+        return spine_length;
+    }
+
+    public int getCount(int spine_index) {
+        return count[spine_index];
+    }
+
+    public int[] getPasses(int spine_index) {
+        return passes[spine_index];
+    }
+
+    public int[] getValues(int spine_index) {
+        return values[spine_index];
+    }
+
+    public float[] getSamples(int spine_index) {
+        return samples[spine_index];
+    }
+
+    public boolean isSoft() {
+        return soft;
+    }
+}
@@ -0,0 +1,22 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Stateless generator of transmitted symbols x_i,j = f(s_i, j).
+ */
+
+public interface SymbolGenerator {
+
+    /**
+     * Generate the symbol of a spine value for a pass.
+     *
+     * @param spine The spine value s_i.
+     * @param pass The pass j (starting from 0).
+     *
+     * @return A 32-bit value, the last c bits contains the symbol.
+     */
+    int symbol(int spine, int pass);
+
+    /**
+     * @return The number of bits for each transmitted symbol.
+     */
+    int getC();
+}
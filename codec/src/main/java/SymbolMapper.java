@@ -0,0 +1,14 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Mapping of c-bit symbols to channel amplitudes.
+ */
+
+public interface SymbolMapper {
+
+    /**
+     * @param symbol A c-bit symbol.
+     *
+     * @return The amplitude transmitted for the symbol.
+     */
+    float amplitude(int symbol);
+}
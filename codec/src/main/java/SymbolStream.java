@@ -0,0 +1,95 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Lazy, rateless stream of encoded symbols.
+ */
+
+import java.util.NoSuchElementException;
+
+public class SymbolStream {
+
+    private int[] spine_values;
+    private SymbolGenerator symbol_generator;
+    private int[][] subpasses;
+
+    private int[] sent; // symbols already sent for each spine value, i.e. the pass of its next symbol
+    private int subpass;
+    private int position;
+    private long symbol_count;
+
+    // description of the last symbol
+    private int spine_index;
+    private int pass;
+
+    /**
+     * Symbol stream. Symbols are generated only when asked for, in the order of a puncturing
+     * schedule, and the stream never ends: the sender stops pulling when the receiver acknowledges.
+     *
+     * @param spine_values Spine values of the message.
+     * @param symbol_generator Generator of symbols.
+     * @param schedule Puncturing schedule.
+     *
+     */
+    public SymbolStream(int[] spine_values, SymbolGenerator symbol_generator, PuncturingSchedule schedule) {
+        this.spine_values = spine_values;
+        this.symbol_generator = symbol_generator;
+        this.subpasses = new int[schedule.getPeriod()][];
+        for (int i = 0; i < this.subpasses.length; i++) {
+            this.subpasses[i] = schedule.getSubpass(i, spine_values.length);
+        }
+        this.sent = new int[spine_values.length];
+    }
+
+    /**
+     * @return Whether there is a symbol to send (false only for an empty message).
+     */
+    public boolean hasNext() {
+        return this.spine_values.length > 0;
+    }
+
+    /**
+     * Generate the next symbol. getSpine_index() and getPass() then describe it.
+     *
+     * @return A 32-bit value, the last c bits contains the symbol.
+     *
+     * @throws NoSuchElementException If the message is empty.
+     */
+    public int next() {
+        if (this.spine_values.length == 0) {
+            throw new NoSuchElementException("Empty message has no symbols");
+        }
+        while (this.position == this.subpasses[this.subpass].length) {
+            this.position = 0;
+            this.subpass = (this.subpass + 1) % this.subpasses.length;
+        }
+        this.spine_index = this.subpasses[this.subpass][this.position++];
+        this.pass = this.sent[this.spine_index]++;
+        this.symbol_count++;
+        return this.symbol_generator.symbol(this.spine_values[this.spine_index], this.pass);
+    }
+
+    /**
+     * @return Whether the last symbol completed a sub-pass.
+     */
+    public boolean isSubpassEnd() {
+        return this.position == this.subpasses[this.subpass].length;
+    }
+
+    /**
+     * Getters.
+     */
+    public int getSpine_index() {
+        return spine_index;
+    }
+
+    public int getPass() {
+        return pass;
+    }
+
+    public long getSymbol_count() {
+        return symbol_count;
+    }
+
+    public int getSpine_length() {
+        return spine_values.length;
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Cache of precomputed tables by name, released when the heap runs short.
+ */
+
+import java.lang.ref.SoftReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+public class TableCache<T> {
+
+    private ConcurrentHashMap<String, SoftReference<T>> tables;
+
+    /**
+     * Table cache. Tables are held by soft references: a table used by an encoder or decoder stays
+     * cached, an unused one stays until the heap runs short and is then built again on next use.
+     *
+     */
+    public TableCache() {
+        this.tables = new ConcurrentHashMap<String, SoftReference<T>>();
+    }
+
+    /**
+     * @param name Name of the table.
+     *
+     * @return The cached table, or null.
+     */
+    public T get(String name) {
+        SoftReference<T> reference = this.tables.get(name);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Get a table, building it when it is not cached. Concurrent callers of one name build it once.
+     *
+     * @param name Name of the table.
+     * @param builder Builder of the table from its name.
+     *
+     * @return The table.
+     */
+    public T get(String name, Function<String, T> builder) {
+        T table = this.get(name);
+        if (table != null) {
+            return table;
+        }
+
+        // forget released tables, then build under the lock of the name
+        this.tables.values().removeIf(reference -> reference.get() == null);
+        AtomicReference<T> result = new AtomicReference<T>();
+        this.tables.compute(name, (key, reference) -> {
+            T cached = reference == null ? null : reference.get();
+            if (cached == null) {
+                cached = builder.apply(key);
+                reference = new SoftReference<T>(cached);
+            }
+            result.set(cached);
+            return reference;
+        });
+        return result.get();
+    }
+
+    /**
+     * Drop every table. Tables still used by encoders or decoders stay valid, but are no longer shared.
+     */
+    public void clear() {
+        this.tables.clear();
+    }
+
+    /**
+     * @return The number of cached names (including tables released but not yet forgotten).
+     */
+    public int size() {
+        return this.tables.size();
+    }
+}
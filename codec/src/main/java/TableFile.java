@@ -0,0 +1,108 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Precomputed tables cached in memory-mapped files.
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+public class TableFile {
+
+    public static final int HEADER_LENGTH = 16;
+    private static final int MAGIC = 0x5350544c; // "SPTL"
+
+    /**
+     * Map the table of a table file read-only, building the file first when it does not hold a valid table.
+     * A file is
+     *     [magic (4 bytes)][table length (4 bytes)][CRC-32 of the file name (4 bytes)][CRC-32 of the table (4 bytes)][table]
+     * with big-endian integers. The file name names the parameters of the table, so a file that was truncated,
+     * overwritten or copied from another table fails the check and is built again rather than giving wrong values.
+     * A table is built into a temporary file of the same directory and moved into place, so concurrent
+     * builders never map a partial table.
+     *
+     * @param file The table file.
+     * @param length The number of bytes of the table.
+     * @param builder Writer of the table into a buffer of length bytes.
+     *
+     * @return Read-only mapping of the table (without the header).
+     *
+     * @throws IOException If the file cannot be built or mapped.
+     */
+    public static ByteBuffer map(Path file, int length, Consumer<ByteBuffer> builder) throws IOException {
+        int name_crc = crc32(ByteBuffer.wrap(file.getFileName().toString().getBytes(StandardCharsets.UTF_8)));
+        if (Files.isRegularFile(file) && Files.size(file) == HEADER_LENGTH + (long) length) {
+            ByteBuffer table = load(file, length, name_crc);
+            if (table != null) {
+                return table;
+            }
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp_file = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp_file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_LENGTH + (long) length);
+                ByteBuffer table = buffer.slice(HEADER_LENGTH, length);
+                builder.accept(table);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, length);
+                buffer.putInt(8, name_crc);
+                buffer.putInt(12, crc32(table.clear()));
+                buffer.force();
+            }
+            Files.move(temp_file, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp_file);
+        }
+        ByteBuffer table = load(file, length, name_crc);
+        if (table == null) {
+            throw new IOException("Table file " + file + " was changed while built");
+        }
+        return table;
+    }
+
+    /**
+     * Map a table file and check its header.
+     *
+     * @param file The table file, of HEADER_LENGTH + length bytes.
+     * @param length The number of bytes of the table.
+     * @param name_crc CRC-32 of the file name.
+     *
+     * @return Read-only mapping of the table, or null when the header does not match the table.
+     *
+     * @throws IOException If the file cannot be mapped.
+     */
+    private static ByteBuffer load(Path file, int length, int name_crc) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_LENGTH + (long) length) {
+                return null;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_LENGTH + (long) length);
+        }
+        ByteBuffer table = buffer.slice(HEADER_LENGTH, length);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != length || buffer.getInt(8) != name_crc
+                || buffer.getInt(12) != crc32(table.duplicate())) {
+            return null;
+        }
+        return table;
+    }
+
+    /**
+     * @return CRC-32 of the remaining bytes of a buffer (the position is moved to the limit).
+     */
+    private static int crc32(ByteBuffer bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Spine hash read from a precomputed table of next spine values, for small v.
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+public class TableSpineHash implements SpineHash {
+
+    private static final TableCache<TableSpineHash> TABLES = new TableCache<TableSpineHash>();
+
+    private SpineHash base;
+    private int k, v;
+    private int[] table; // hash of every (spine, message), at index (spine << k) | message
+
+    /**
+     * Table spine hash over a built table.
+     *
+     * The table is looked up in a Java array: on JDK 17 an int view of a direct buffer costs about as much
+     * as hashing, while an array lookup is 2-3 times cheaper as long as the table stays in cache (v <= 16).
+     *
+     * @param base Spine hash the table was built from.
+     * @param k The number of bits for each message piece m.
+     * @param v The number of bits for each spine value s.
+     * @param table Array of 2^(v+k) hashes, at index (spine << k) | message.
+     *
+     */
+    private TableSpineHash(SpineHash base, int k, int v, int[] table) {
+        this.base = base;
+        this.k = k;
+        this.v = v;
+        this.table = table;
+    }
+
+    /**
+     * Get the table of a spine hash, built on first use. The table is shared by every encoder and decoder of
+     * the same hash, k and v in the JVM, and is read-only. Hashes are told apart by class and by a fingerprint
+     * of their values, so two instances of one class with different parameters get different tables. A table
+     * no longer used is released when the heap runs short, or by clearCache().
+     *
+     * @param base Spine hash of the encoder, whose result is a function of its arguments.
+     * @param k The number of bits for each message piece m.
+     * @param v The number of bits for each spine value s (v + k at most 28, i.e. a 1 GB table).
+     *
+     * @return Spine hash giving the same values as base.
+     */
+    public static TableSpineHash create(SpineHash base, int k, int v) {
+        return TABLES.get(getName(base, k, v), name -> {
+            int[] table = new int[getTable_size(k, v)];
+            build(base, k, v, table);
+            return new TableSpineHash(base, k, v, table);
+        });
+    }
+
+    /**
+     * Get the table of a spine hash, loaded from a memory-mapped file of a cache directory. The file is built
+     * on first use and loaded afterwards, by this and later JVMs, which is much faster than hashing again.
+     *
+     * @param base Spine hash of the encoder, whose result is a function of its arguments.
+     * @param k The number of bits for each message piece m.
+     * @param v The number of bits for each spine value s (v + k at most 28, i.e. a 1 GB table).
+     * @param directory Cache directory of tables.
+     *
+     * @return Spine hash giving the same values as base.
+     *
+     * @throws IOException If the file cannot be built or mapped.
+     */
+    public static TableSpineHash create(SpineHash base, int k, int v, Path directory) throws IOException {
+        String name = getName(base, k, v);
+        TableSpineHash hash = TABLES.get(name);
+        if (hash == null) {
+            // a new file is written from the array, an existing one is read into it
+            int[] table = new int[getTable_size(k, v)];
+            ByteBuffer buffer = TableFile.map(directory.resolve(name + ".tbl"), table.length * 4, built -> {
+                build(base, k, v, table);
+                built.order(ByteOrder.nativeOrder()).asIntBuffer().put(table);
+            });
+            buffer.order(ByteOrder.nativeOrder()).asIntBuffer().get(table);
+            hash = TABLES.get(name, key -> new TableSpineHash(base, k, v, table));
+        }
+        return hash;
+    }
+
+    /**
+     * Compute the hash of every (spine, message).
+     */
+    private static void build(SpineHash base, int k, int v, int[] table) {
+        for (int spine = 0; spine < (1 << v); spine++) {
+            for (int message = 0; message < (1 << k); message++) {
+                table[(spine << k) | message] = base.hash(spine, message);
+            }
+        }
+    }
+
+    /**
+     * @return The number of hashes of the table.
+     */
+    private static int getTable_size(int k, int v) {
+        if (v + k > 28) {
+            throw new IllegalArgumentException("Table of 2^" + (v + k) + " spine values is too large");
+        }
+        return 1 << (v + k);
+    }
+
+    /**
+     * Drop the cached tables, e.g. after the last encoder or decoder using them.
+     */
+    public static void clearCache() {
+        TABLES.clear();
+    }
+
+    /**
+     * @return Name of the table of a configuration.
+     */
+    private static String getName(SpineHash base, int k, int v) {
+        return "spine-" + base.getClass().getName() + "-" + Integer.toHexString(getFingerprint(base, k))
+                + "-k" + k + "-v" + v + "-" + ByteOrder.nativeOrder();
+    }
+
+    /**
+     * @return Digest of the values of a hash at fixed arguments, different for hashes of one class with
+     *         different parameters (e.g. seeds).
+     */
+    private static int getFingerprint(SpineHash base, int k) {
+        int fingerprint = 0;
+        for (int i = 0; i < 64; i++) {
+            fingerprint = 31 * fingerprint + base.hash(i * 0x9e3779b9, i & ((1 << k) - 1));
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Look up the hash. Spine values of more than v bits (e.g. some s_0) are hashed by the base hash.
+     */
+    @Override
+    public int hash(int spine, int message) {
+        if ((spine >>> this.v) != 0 || (message >>> this.k) != 0) {
+            return this.base.hash(spine, message);
+        }
+        return this.table[(spine << this.k) | message];
+    }
+
+    /**
+     * Getters.
+     */
+    public SpineHash getBase() {
+        return base;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public int getV() {
+        return v;
+    }
+}
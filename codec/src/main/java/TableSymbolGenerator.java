@@ -0,0 +1,180 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Symbol generator read from a precomputed table of symbols, for small v.
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+public class TableSymbolGenerator implements SymbolGenerator {
+
+    private static final TableCache<TableSymbolGenerator> TABLES = new TableCache<TableSymbolGenerator>();
+
+    private SymbolGenerator base;
+    private int c, v, passes;
+    private short[] table; // symbols of every spine value, at index spine * passes + pass
+
+    /**
+     * Table symbol generator over a built table.
+     *
+     * @param base Symbol generator the table was built from.
+     * @param c The number of bits for each transmitted symbol.
+     * @param v The number of bits for each spine value s.
+     * @param passes The number of passes in the table.
+     * @param table Array of 2^v * passes symbols, at index spine * passes + pass.
+     *
+     */
+    private TableSymbolGenerator(SymbolGenerator base, int c, int v, int passes, short[] table) {
+        this.base = base;
+        this.c = c;
+        this.v = v;
+        this.passes = passes;
+        this.table = table;
+    }
+
+    /**
+     * Get the table of a symbol generator, built on first use. The table is shared by every encoder and
+     * decoder of the same generator, v and number of passes in the JVM, and is read-only. Generators are
+     * told apart by class and by a fingerprint of their symbols, so two instances of one class with
+     * different parameters get different tables. A table no longer used is released when the heap runs
+     * short, or by clearCache().
+     *
+     * @param base Symbol generator of the encoder, whose result is a function of its arguments.
+     * @param c The number of bits for each transmitted symbol (at most 16), the c of base.
+     * @param v The number of bits for each spine value s.
+     * @param passes The number of passes in the table; later passes are generated by base.
+     *
+     * @return Symbol generator giving the same symbols as base.
+     */
+    public static TableSymbolGenerator create(SymbolGenerator base, int c, int v, int passes) {
+        checkC(base, c);
+        return TABLES.get(getName(base, c, v, passes), name -> {
+            short[] table = new short[getTable_size(c, v, passes)];
+            build(base, v, passes, table);
+            return new TableSymbolGenerator(base, c, v, passes, table);
+        });
+    }
+
+    /**
+     * Get the table of a symbol generator, loaded from a memory-mapped file of a cache directory. The file
+     * is built on first use and loaded afterwards, by this and later JVMs.
+     *
+     * @param base Symbol generator of the encoder, whose result is a function of its arguments.
+     * @param c The number of bits for each transmitted symbol (at most 16), the c of base.
+     * @param v The number of bits for each spine value s.
+     * @param passes The number of passes in the table; later passes are generated by base.
+     * @param directory Cache directory of tables.
+     *
+     * @return Symbol generator giving the same symbols as base.
+     *
+     * @throws IOException If the file cannot be built or mapped.
+     */
+    public static TableSymbolGenerator create(SymbolGenerator base, int c, int v, int passes, Path directory) throws IOException {
+        checkC(base, c);
+        String name = getName(base, c, v, passes);
+        TableSymbolGenerator generator = TABLES.get(name);
+        if (generator == null) {
+            // a new file is written from the array, an existing one is read into it
+            short[] table = new short[getTable_size(c, v, passes)];
+            ByteBuffer buffer = TableFile.map(directory.resolve(name + ".tbl"), table.length * 2, built -> {
+                build(base, v, passes, table);
+                built.order(ByteOrder.nativeOrder()).asShortBuffer().put(table);
+            });
+            buffer.order(ByteOrder.nativeOrder()).asShortBuffer().get(table);
+            generator = TABLES.get(name, key -> new TableSymbolGenerator(base, c, v, passes, table));
+        }
+        return generator;
+    }
+
+    /**
+     * Generate the symbols of every spine value and pass.
+     */
+    private static void build(SymbolGenerator base, int v, int passes, short[] table) {
+        for (int spine = 0; spine < (1 << v); spine++) {
+            for (int pass = 0; pass < passes; pass++) {
+                table[spine * passes + pass] = (short) base.symbol(spine, pass);
+            }
+        }
+    }
+
+    /**
+     * Check that symbols of c bits are those of the base generator.
+     */
+    private static void checkC(SymbolGenerator base, int c) {
+        if (base.getC() != c) {
+            throw new IllegalArgumentException("Symbols of " + c + " bits from a generator of " + base.getC() + " bits");
+        }
+    }
+
+    /**
+     * @return The number of symbols of the table.
+     */
+    private static int getTable_size(int c, int v, int passes) {
+        if (c > 16) {
+            throw new IllegalArgumentException("Symbol tables hold at most 16 bits per symbol");
+        }
+        if (((long) passes << v) > (1 << 29)) {
+            throw new IllegalArgumentException("Table of 2^" + v + " * " + passes + " symbols is too large");
+        }
+        return passes << v;
+    }
+
+    /**
+     * Drop the cached tables, e.g. after the last encoder or decoder using them.
+     */
+    public static void clearCache() {
+        TABLES.clear();
+    }
+
+    /**
+     * @return Name of the table of a configuration.
+     */
+    private static String getName(SymbolGenerator base, int c, int v, int passes) {
+        return "symbol-" + base.getClass().getName() + "-" + Integer.toHexString(getFingerprint(base))
+                + "-c" + c + "-v" + v + "-p" + passes + "-" + ByteOrder.nativeOrder();
+    }
+
+    /**
+     * @return Digest of the symbols of a generator at fixed arguments, different for generators of one class
+     *         with different parameters (e.g. seeds).
+     */
+    private static int getFingerprint(SymbolGenerator base) {
+        int fingerprint = 0;
+        for (int i = 0; i < 64; i++) {
+            fingerprint = 31 * fingerprint + base.symbol(i * 0x9e3779b9, i & 7);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Look up the symbol. Spine values of more than v bits and later passes are generated by the base generator.
+     */
+    @Override
+    public int symbol(int spine, int pass) {
+        if ((spine >>> this.v) != 0 || pass >= this.passes) {
+            return this.base.symbol(spine, pass);
+        }
+        return this.table[spine * this.passes + pass] & 0xffff;
+    }
+
+    /**
+     * Getters.
+     */
+    public SymbolGenerator getBase() {
+        return base;
+    }
+
+    public int getC() {
+        return c;
+    }
+
+    public int getV() {
+        return v;
+    }
+
+    public int getPasses() {
+        return passes;
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * Statistics of the transfer of one message by RatelessSender.
+ */
+
+public class TransferReport {
+
+    private int message_id;
+    private int payload_length;
+    private long symbol_count;
+    private int packet_count;
+    private int dropped_count;
+    private long nanos;
+    private boolean acked;
+
+    /**
+     * Transfer report.
+     *
+     * @param message_id Identifier of the message.
+     * @param payload_length The number of payload bytes.
+     * @param symbol_count The number of symbols sent, including those of dropped packets.
+     * @param packet_count The number of symbol packets sent.
+     * @param dropped_count The number of symbol packets lost by the injector.
+     * @param nanos Time from the first packet to the ACK (or to giving up).
+     * @param acked Whether the receiver acknowledged the message.
+     *
+     */
+    public TransferReport(int message_id, int payload_length, long symbol_count, int packet_count,
+                          int dropped_count, long nanos, boolean acked) {
+        this.message_id = message_id;
+        this.payload_length = payload_length;
+        this.symbol_count = symbol_count;
+        this.packet_count = packet_count;
+        this.dropped_count = dropped_count;
+        this.nanos = nanos;
+        this.acked = acked;
+    }
+
+    /**
+     * @return Payload bits per symbol sent.
+     */
+    public double getRate() {
+        return this.symbol_count == 0 ? 0 : (double) this.payload_length * 8 / this.symbol_count;
+    }
+
+    /**
+     * Getters.
+     */
+    public int getMessage_id() {
+        return message_id;
+    }
+
+    public int getPayload_length() {
+        return payload_length;
+    }
+
+    public long getSymbol_count() {
+        return symbol_count;
+    }
+
+    public int getPacket_count() {
+        return packet_count;
+    }
+
+    public int getDropped_count() {
+        return dropped_count;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public boolean isAcked() {
+        return acked;
+    }
+}
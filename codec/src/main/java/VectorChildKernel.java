@@ -0,0 +1,128 @@
+/**
+ * Created by SeAxiAoD on 2026/10/18.
+ * SIMD child expansion with the Java Vector API (jdk.incubator.vector).
+ */
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorChildKernel implements ChildKernel {
+
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT_SPECIES =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(LONG_SPECIES.vectorBitSize() / 2));
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private int k, v_mask, c, l;
+    private LegacySymbolGenerator legacy_generator; // null for CounterSymbolGenerator
+
+    /**
+     * Vector kernel. Children of a node are computed in lanes: one lane per message value,
+     * with 64-bit lanes for the symbol generator and the costs. Costs are summed in the same
+     * order and precision as the scalar code, so decoding results are identical.
+     *
+     * @param k The number of bits for each message piece m.
+     * @param v_mask Mask of v bits for spine values.
+     * @param c The number of bits for each transmitted symbol.
+     * @param l The number of passes.
+     * @param legacy_generator The legacy symbol generator, or null for the counter symbol generator.
+     *
+     */
+    private VectorChildKernel(int k, int v_mask, int c, int l, LegacySymbolGenerator legacy_generator) {
+        this.k = k;
+        this.v_mask = v_mask;
+        this.c = c;
+        this.l = l;
+        this.legacy_generator = legacy_generator;
+    }
+
+    /**
+     * Create a kernel when the hash and the generator are supported.
+     *
+     * @return The kernel, or null for unsupported configurations, including 2^k smaller than the number of
+     *         lanes (the decoder then uses its scalar code).
+     */
+    public static VectorChildKernel create(int k, int v_mask, int c, int l, SpineHash spine_hash, SymbolGenerator symbol_generator) {
+        if (!(spine_hash instanceof Lookup3SpineHash) || c < 1 || c > 30 || (1 << k) % INT_SPECIES.length() != 0) {
+            return null;
+        }
+        if (symbol_generator instanceof LegacySymbolGenerator) {
+            return new VectorChildKernel(k, v_mask, c, l, (LegacySymbolGenerator) symbol_generator);
+        }
+        if (symbol_generator instanceof CounterSymbolGenerator) {
+            return new VectorChildKernel(k, v_mask, c, l, null);
+        }
+        return null;
+    }
+
+    @Override
+    public void buildChild(int parent_spine, double parent_cost, SymbolBuffer buffer, int parent_depth,
+                           int[] child_spine, double[] child_cost, int offset) {
+        int count = buffer.getCount(parent_depth);
+        int[] passes = buffer.getPasses(parent_depth);
+        int[] values = buffer.getValues(parent_depth);
+        int child_count = 1 << this.k;
+        int symbol_shift = this.legacy_generator != null ? 17 + 31 - this.c : 64 - this.c;
+        long[] jump = null;
+        if (this.legacy_generator != null) {
+            int max_pass = 0;
+            for (int j = 0; j < count; j++) {
+                max_pass = Math.max(max_pass, passes[j]);
+            }
+            jump = this.legacy_generator.getJump(max_pass);
+        }
+
+        // note: everything stays in this method, since vectors passed to a method that is not inlined
+        // lose their exact shape and are boxed, which makes the kernel slower than scalar code
+        int init = 0xdeadbeef + 8;
+        IntVector a0 = IntVector.broadcast(INT_SPECIES, init + parent_spine - ((parent_spine & 0x00808080) << 1));
+        IntVector c0 = IntVector.broadcast(INT_SPECIES, init);
+        for (int m = 0; m < child_count; m += INT_SPECIES.length()) {
+
+            // spine values of children: Lookup3SpineHash.hash(parent_spine, m + lane)
+            IntVector message = IntVector.broadcast(INT_SPECIES, m).addIndex(1);
+            IntVector b = message.sub(message.and(0x00808080).lanewise(VectorOperators.LSHL, 1)).add(init);
+            IntVector a = a0;
+            IntVector c = c0;
+            c = c.lanewise(VectorOperators.XOR, b).sub(b.lanewise(VectorOperators.ROL, 14));
+            a = a.lanewise(VectorOperators.XOR, c).sub(c.lanewise(VectorOperators.ROL, 11));
+            b = b.lanewise(VectorOperators.XOR, a).sub(a.lanewise(VectorOperators.ROL, 25));
+            c = c.lanewise(VectorOperators.XOR, b).sub(b.lanewise(VectorOperators.ROL, 16));
+            a = a.lanewise(VectorOperators.XOR, c).sub(c.lanewise(VectorOperators.ROL, 4));
+            b = b.lanewise(VectorOperators.XOR, a).sub(a.lanewise(VectorOperators.ROL, 14));
+            c = c.lanewise(VectorOperators.XOR, b).sub(b.lanewise(VectorOperators.ROL, 24));
+            IntVector spine = c.and(this.v_mask);
+            spine.intoArray(child_spine, offset + m);
+
+            // squared error of every received pass
+            LongVector spine_long = (LongVector) spine.convertShape(VectorOperators.I2L, LONG_SPECIES, 0);
+            DoubleVector temp_loss = DoubleVector.zero(DOUBLE_SPECIES);
+            for (int j = 0; j < count; j++) {
+                int pass = passes[j];
+                LongVector z;
+                if (jump != null) {
+                    // LegacySymbolGenerator: the LCG state after pass + 1 draws
+                    z = spine_long.lanewise(VectorOperators.XOR, MULTIPLIER).and(MASK)
+                            .mul(jump[2 * pass]).add(jump[2 * pass + 1]).and(MASK);
+                }
+                else {
+                    // CounterSymbolGenerator: SplitMix64 of (spine, pass)
+                    z = spine_long.lanewise(VectorOperators.LSHL, 32).or(pass & 0xFFFFFFFFL).add(0x9E3779B97F4A7C15L);
+                    z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 30)).mul(0xBF58476D1CE4E5B9L);
+                    z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 27)).mul(0x94D049BB133111EBL);
+                    z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 31));
+                }
+                LongVector diff = z.lanewise(VectorOperators.LSHR, symbol_shift).neg().add(values[j]);
+                temp_loss = temp_loss.add((DoubleVector) diff.mul(diff).convert(VectorOperators.L2D, 0));
+            }
+            temp_loss.div(this.l).add(parent_cost).intoArray(child_cost, offset + m);
+        }
+    }
+}